@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.benchmark;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.parser.common.ApplicationBase;
+import de.ma.analyze.parser.common.SourceParserResult;
+import de.ma.analyze.parser.java.JavaApplication;
+import de.ma.analyze.parser.java.JavaSourceParser;
+import de.ma.analyze.parser.java.listener.JavaStructureListener;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code BenchmarkSupport} creates the corpora and the intermediate results used by the benchmarks.<br>
+ * The following corpora are supported:
+ * <ul>
+ *     <li><b>synthetic-small</b> generated types with 10 members each</li>
+ *     <li><b>synthetic-large</b> generated types with 200 members each</li>
+ *     <li><b>bundled</b> copies of the warm-up corpus of the java parser</li>
+ * </ul>
+ *
+ * @author Martin Absmeier
+ */
+public final class BenchmarkSupport {
+
+    /** The number of files of each corpus, a benchmark invocation processes all of them */
+    public static final int FILES_PER_INVOCATION = 50;
+
+    public static final String SYNTHETIC_SMALL = "synthetic-small";
+    public static final String SYNTHETIC_LARGE = "synthetic-large";
+    public static final String BUNDLED = "bundled";
+
+    private static final String WARM_UP_SOURCE = "/warmup/java/WarmUp.java";
+    private static final int NUMBER_OF_PACKAGES = 5;
+
+    /**
+     * Writes the {@link #FILES_PER_INVOCATION} files of the specified {@code corpus} to a temporary directory.
+     *
+     * @param corpus the name of the corpus
+     * @return the files of the corpus
+     * @throws IOException if the files can not be written
+     */
+    public static List<File> createCorpus(String corpus) throws IOException {
+        Path directory = Files.createTempDirectory("analyze-benchmark-");
+        directory.toFile().deleteOnExit();
+
+        String template = BUNDLED.equals(corpus) ? readWarmUpSource() : null;
+        List<File> files = new ArrayList<>(FILES_PER_INVOCATION);
+        for (int i = 0; i < FILES_PER_INVOCATION; i++) {
+            String packageName = "benchmark.p" + (i % NUMBER_OF_PACKAGES);
+            String typeName = "Type" + i;
+            String source = switch (corpus) {
+                case SYNTHETIC_SMALL -> createSyntheticSource(packageName, typeName, 10);
+                case SYNTHETIC_LARGE -> createSyntheticSource(packageName, typeName, 200);
+                case BUNDLED -> template
+                        .replace("package de.ma.analyze.warmup;", "package " + packageName + ";")
+                        .replace("WarmUp", typeName);
+                default -> throw new IllegalArgumentException("Unknown corpus: " + corpus);
+            };
+
+            Path file = directory.resolve(typeName + ".java");
+            Files.writeString(file, source, DEFAULT.ENCODING);
+            file.toFile().deleteOnExit();
+            files.add(file.toFile());
+        }
+
+        return files;
+    }
+
+    /**
+     * Parses the specified {@code files}, SLL is used first and LL if SLL is not sufficient.
+     *
+     * @param parser the parser
+     * @param files  the files to be parsed
+     * @return the parser results
+     * @throws IOException if a file can not be read
+     */
+    public static List<SourceParserResult> parse(JavaSourceParser parser, List<File> files) throws IOException {
+        List<SourceParserResult> parserResults = new ArrayList<>(files.size());
+        for (File file : files) {
+            try {
+                parserResults.add(parser.tryPredictionMode(file, PredictionMode.SLL));
+            } catch (ParseCancellationException ex) {
+                parserResults.add(parser.tryPredictionMode(file, PredictionMode.LL));
+            }
+        }
+        return parserResults;
+    }
+
+    /**
+     * Walks the specified {@code parserResults} with a new {@link JavaStructureListener} without merging them.
+     *
+     * @param parserResults the parser results
+     * @return the component tree of each file
+     */
+    public static List<Component> walk(List<SourceParserResult> parserResults) {
+        JavaStructureListener listener = new JavaStructureListener(DEFAULT.REVISION_ID, new JavaApplication());
+        List<Component> components = new ArrayList<>(parserResults.size());
+        for (SourceParserResult parserResult : parserResults) {
+            listener.setSourceName(parserResult.getSourceName());
+            listener.setTokenStream(parserResult.getTokenStream());
+            ParseTreeWalker.DEFAULT.walk(listener, parserResult.getParseTree());
+            components.add(listener.getResult());
+            listener.reset();
+        }
+        return components;
+    }
+
+    /**
+     * Creates an empty {@link JavaApplication}.
+     *
+     * @return the application
+     */
+    public static ApplicationBase createApplication() {
+        return new JavaApplication();
+    }
+
+    // #################################################################################################################
+
+    private static String createSyntheticSource(String packageName, String typeName, int numberOfMembers) {
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(packageName).append(";\n\n")
+                .append("import java.util.List;\n")
+                .append("import java.util.Map;\n\n")
+                .append("public class ").append(typeName).append(" extends Object implements Comparable<").append(typeName).append("> {\n");
+        for (int i = 0; i < numberOfMembers; i++) {
+            source.append("    private final Map<String, List<Integer>> field").append(i).append(" = null;\n")
+                    .append("    protected int method").append(i).append("(int value, String... names) {\n")
+                    .append("        int result = value * ").append(i).append(";\n")
+                    .append("        for (String name : names) {\n")
+                    .append("            result += name.isEmpty() ? 0 : name.length() % 7;\n")
+                    .append("        }\n")
+                    .append("        return result > 10 ? result : method").append(i).append("(result + 1);\n")
+                    .append("    }\n");
+        }
+        return source
+                .append("    @Override\n")
+                .append("    public int compareTo(").append(typeName).append(" other) {\n")
+                .append("        return Integer.compare(hashCode(), other.hashCode());\n")
+                .append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+
+    private static String readWarmUpSource() throws IOException {
+        try (InputStream inputStream = BenchmarkSupport.class.getResourceAsStream(WARM_UP_SOURCE)) {
+            requireNonNull(inputStream, "Can not find " + WARM_UP_SOURCE);
+            return new String(inputStream.readAllBytes(), DEFAULT.ENCODING);
+        }
+    }
+
+    private BenchmarkSupport() {
+        // We do not want an instance
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.benchmark;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.ComponentWrapper;
+import de.ma.analyze.parser.common.ApplicationBase;
+import de.ma.analyze.parser.java.JavaSourceParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of components by unique coordinate and the coordinate based {@link ComponentWrapper}.<br>
+ * Each invocation performs {@link #LOOKUPS_PER_INVOCATION} lookups of the coordinates of all types and members of
+ * the corpus, the score is reported in lookups per second.
+ *
+ * @author Martin Absmeier
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CoordinateLookupBenchmark {
+
+    static final int LOOKUPS_PER_INVOCATION = 1000;
+
+    @Param({BenchmarkSupport.SYNTHETIC_SMALL, BenchmarkSupport.SYNTHETIC_LARGE, BenchmarkSupport.BUNDLED})
+    public String corpus;
+
+    private ApplicationBase application;
+    private final List<Component> components = new ArrayList<>(LOOKUPS_PER_INVOCATION);
+    private final List<String> coordinates = new ArrayList<>(LOOKUPS_PER_INVOCATION);
+
+    @Setup
+    public void setUp() throws IOException {
+        JavaSourceParser parser = JavaSourceParser.builder().revisionId(DEFAULT.REVISION_ID).build();
+        application = BenchmarkSupport.createApplication();
+        BenchmarkSupport.walk(BenchmarkSupport.parse(parser, BenchmarkSupport.createCorpus(corpus)))
+                .forEach(application::mergeWithApplication);
+
+        List<Component> candidates = new ArrayList<>();
+        collectComponents(application.getComponents(), candidates);
+        for (int i = 0; i < LOOKUPS_PER_INVOCATION; i++) {
+            Component component = candidates.get(i % candidates.size());
+            components.add(component);
+            coordinates.add(component.getUniqueCoordinate());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS_PER_INVOCATION)
+    public void findApplicationComponentByUniqueCoordinate(Blackhole blackhole) {
+        for (String coordinate : coordinates) {
+            blackhole.consume(application.findApplicationComponentByUniqueCoordinate(coordinate));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS_PER_INVOCATION)
+    public void getUniqueCoordinate(Blackhole blackhole) {
+        for (Component component : components) {
+            blackhole.consume(component.getUniqueCoordinate());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS_PER_INVOCATION)
+    public void componentWrapperHashCode(Blackhole blackhole) {
+        for (Component component : components) {
+            blackhole.consume(new ComponentWrapper(component).hashCode());
+        }
+    }
+
+    // #################################################################################################################
+
+    private void collectComponents(Component component, List<Component> candidates) {
+        component.getChildren().forEach(child -> {
+            candidates.add(child);
+            collectComponents(child, candidates);
+        });
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.benchmark;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.parser.java.JavaSourceParser;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JavaSourceParser#tryPredictionMode(File, PredictionMode)} per file and prediction mode.<br>
+ * The score is reported in files per second, run with {@code -prof gc} to get the allocated bytes per file
+ * ({@code gc.alloc.rate.norm}).
+ *
+ * @author Martin Absmeier
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JavaParserBenchmark {
+
+    @Param({BenchmarkSupport.SYNTHETIC_SMALL, BenchmarkSupport.SYNTHETIC_LARGE, BenchmarkSupport.BUNDLED})
+    public String corpus;
+
+    @Param({"SLL", "LL", "LL_EXACT_AMBIG_DETECTION"})
+    public String mode;
+
+    private List<File> files;
+    private JavaSourceParser parser;
+    private PredictionMode predictionMode;
+
+    @Setup
+    public void setUp() throws IOException {
+        files = BenchmarkSupport.createCorpus(corpus);
+        parser = JavaSourceParser.builder().revisionId(DEFAULT.REVISION_ID).build();
+        predictionMode = PredictionMode.valueOf(mode);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkSupport.FILES_PER_INVOCATION)
+    public void tryPredictionMode(Blackhole blackhole) throws IOException {
+        for (File file : files) {
+            blackhole.consume(parser.tryPredictionMode(file, predictionMode));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.benchmark;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.parser.common.SourceParserResult;
+import de.ma.analyze.parser.java.JavaApplication;
+import de.ma.analyze.parser.java.JavaSourceParser;
+import de.ma.analyze.parser.java.listener.JavaStructureListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the walk of the {@link JavaStructureListener} over already parsed files, without merging the results.<br>
+ * The score is reported in files per second, run with {@code -prof gc} to get the allocated bytes per file
+ * ({@code gc.alloc.rate.norm}).
+ *
+ * @author Martin Absmeier
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JavaStructureListenerBenchmark {
+
+    @Param({BenchmarkSupport.SYNTHETIC_SMALL, BenchmarkSupport.SYNTHETIC_LARGE, BenchmarkSupport.BUNDLED})
+    public String corpus;
+
+    private List<SourceParserResult> parserResults;
+    private JavaStructureListener listener;
+
+    @Setup
+    public void setUp() throws IOException {
+        JavaSourceParser parser = JavaSourceParser.builder().revisionId(DEFAULT.REVISION_ID).build();
+        parserResults = BenchmarkSupport.parse(parser, BenchmarkSupport.createCorpus(corpus));
+        listener = new JavaStructureListener(DEFAULT.REVISION_ID, new JavaApplication());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkSupport.FILES_PER_INVOCATION)
+    public void walk(Blackhole blackhole) {
+        for (SourceParserResult parserResult : parserResults) {
+            listener.setSourceName(parserResult.getSourceName());
+            listener.setTokenStream(parserResult.getTokenStream());
+            ParseTreeWalker.DEFAULT.walk(listener, parserResult.getParseTree());
+            blackhole.consume(listener.getResult());
+            listener.reset();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.benchmark;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.parser.common.ApplicationBase;
+import de.ma.analyze.parser.common.SourceParserResult;
+import de.ma.analyze.parser.java.JavaSourceParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ApplicationBase#mergeWithApplication(Component)} of the component trees of all files into an
+ * empty application. The merge moves the trees into the application, so they are rebuilt before every invocation.<br>
+ * The score is reported in files per second, run with {@code -prof gc} to get the allocated bytes per file
+ * ({@code gc.alloc.rate.norm}).
+ *
+ * @author Martin Absmeier
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MergeBenchmark {
+
+    @Param({BenchmarkSupport.SYNTHETIC_SMALL, BenchmarkSupport.SYNTHETIC_LARGE, BenchmarkSupport.BUNDLED})
+    public String corpus;
+
+    private List<SourceParserResult> parserResults;
+    private List<Component> components;
+    private ApplicationBase application;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        JavaSourceParser parser = JavaSourceParser.builder().revisionId(DEFAULT.REVISION_ID).build();
+        parserResults = BenchmarkSupport.parse(parser, BenchmarkSupport.createCorpus(corpus));
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        components = BenchmarkSupport.walk(parserResults);
+        application = BenchmarkSupport.createApplication();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkSupport.FILES_PER_INVOCATION)
+    public void mergeWithApplication(Blackhole blackhole) {
+        for (Component component : components) {
+            application.mergeWithApplication(component);
+        }
+        blackhole.consume(application);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.checksum;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.common.exception.ParserException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * {@code ChecksumAlgorithm} contains the algorithms supported by {@link Checksums}.
+ *
+ * @author Martin Absmeier
+ */
+public enum ChecksumAlgorithm {
+    /**
+     * SHA-512, the default algorithm with a 512 bit hash.
+     */
+    SHA_512(DEFAULT.ALGORITHM),
+    /**
+     * SHA-256 with a 256 bit hash.
+     */
+    SHA_256("SHA-256"),
+    /**
+     * MurmurHash3 with a 128 bit hash, not cryptographic but much faster to detect changes.
+     */
+    MURMUR3_128(null);
+
+    private final String messageDigest;
+
+    ChecksumAlgorithm(String messageDigest) {
+        this.messageDigest = messageDigest;
+    }
+
+    /**
+     * Creates a new {@link Hasher} of this algorithm.
+     *
+     * @return the hasher
+     */
+    Hasher newHasher() {
+        if (this == MURMUR3_128) {
+            return new Murmur3Hasher();
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance(messageDigest);
+            return new Hasher() {
+                @Override
+                public void update(byte[] bytes, int offset, int length) {
+                    digest.update(bytes, offset, length);
+                }
+
+                @Override
+                public byte[] digest() {
+                    return digest.digest();
+                }
+
+                @Override
+                public void reset() {
+                    digest.reset();
+                }
+            };
+        } catch (NoSuchAlgorithmException ex) {
+            throw new ParserException("Algorithm " + messageDigest + " is not supported.", ex);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.checksum;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.HexFormat;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code Checksums} calculates the checksums of source code, files and token ranges of a parser rule.<br>
+ * Every thread reuses its own hashers and an encoding buffer, characters are encoded as UTF-8 directly into the buffer
+ * without intermediate strings or byte arrays. The hash is encoded as lower case hexadecimal string.
+ *
+ * @author Martin Absmeier
+ */
+public final class Checksums {
+
+    /** The algorithm used if an analysis does not specify one */
+    public static final ChecksumAlgorithm DEFAULT_ALGORITHM = ChecksumAlgorithm.SHA_512;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+    private static final ChecksumAlgorithm[] ALGORITHMS = ChecksumAlgorithm.values();
+    /** Separates the tokens of a token range, so that the tokens "a b" and "ab" result in different checksums */
+    private static final int TOKEN_SEPARATOR = ' ';
+    private static final ThreadLocal<Encoder> ENCODER = ThreadLocal.withInitial(Encoder::new);
+
+    /**
+     * Calculate the checksum of the specified {@code text} with the specified {@code algorithm}.
+     *
+     * @param algorithm the algorithm
+     * @param text      the text
+     * @return the checksum
+     */
+    public static String calculate(ChecksumAlgorithm algorithm, CharSequence text) {
+        requireNonNull(algorithm, "Parameter 'algorithm' must not be NULL.");
+        requireNonNull(text, "Parameter 'text' must not be NULL.");
+
+        Encoder encoder = ENCODER.get().start(algorithm);
+        int length = text.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(text, i);
+            encoder.put(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return encoder.finish();
+    }
+
+    /**
+     * Calculate the checksum of the tokens between {@code startIndex} and {@code stopIndex} (both inclusive) of the
+     * specified {@code tokens}. Only tokens of the default channel are hashed, so whitespace and comments do not change
+     * the checksum. The characters of the tokens are read from their input, no token text is created.
+     *
+     * @param algorithm  the algorithm
+     * @param tokens     the token stream
+     * @param startIndex the index of the first token
+     * @param stopIndex  the index of the last token
+     * @return the checksum
+     */
+    public static String calculate(ChecksumAlgorithm algorithm, TokenStream tokens, int startIndex, int stopIndex) {
+        requireNonNull(algorithm, "Parameter 'algorithm' must not be NULL.");
+        requireNonNull(tokens, "Parameter 'tokens' must not be NULL.");
+
+        Encoder encoder = ENCODER.get().start(algorithm);
+        for (int i = startIndex; i <= stopIndex; i++) {
+            Token token = tokens.get(i);
+            if (token.getChannel() != Token.DEFAULT_CHANNEL || token.getType() == Token.EOF) {
+                continue;
+            }
+            CharStream input = token.getInputStream();
+            if (isNull(input)) {
+                token.getText().codePoints().forEach(encoder::put);
+            } else {
+                putCharacters(encoder, input, token.getStartIndex(), token.getStopIndex());
+            }
+            encoder.put(TOKEN_SEPARATOR);
+        }
+        return encoder.finish();
+    }
+
+    /**
+     * Calculate the checksum of the content of the specified {@code file}, it is read in chunks.
+     *
+     * @param algorithm the algorithm
+     * @param file      the file
+     * @return the checksum
+     * @throws IOException if the file can not be read
+     */
+    public static String calculate(ChecksumAlgorithm algorithm, File file) throws IOException {
+        requireNonNull(algorithm, "Parameter 'algorithm' must not be NULL.");
+        requireNonNull(file, "Parameter 'file' must not be NULL.");
+
+        Encoder encoder = ENCODER.get().start(algorithm);
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            encoder.putAll(inputStream);
+        }
+        return encoder.finish();
+    }
+
+    // #################################################################################################################
+
+    private static void putCharacters(Encoder encoder, CharStream input, int start, int stop) {
+        int index = input.index();
+        input.seek(start);
+        for (int i = start; i <= stop; i++) {
+            encoder.put(input.LA(1));
+            input.consume();
+        }
+        input.seek(index);
+    }
+
+    /**
+     * Encodes characters as UTF-8 into a buffer and updates the hasher whenever the buffer is full.
+     */
+    private static final class Encoder {
+        private final Hasher[] hashers = new Hasher[ALGORITHMS.length];
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private Hasher hasher;
+        private int position;
+
+        Encoder start(ChecksumAlgorithm algorithm) {
+            Hasher current = hashers[algorithm.ordinal()];
+            if (isNull(current)) {
+                current = algorithm.newHasher();
+                hashers[algorithm.ordinal()] = current;
+            }
+            current.reset();
+            hasher = current;
+            position = 0;
+            return this;
+        }
+
+        void put(int codePoint) {
+            if (position > BUFFER_SIZE - 4) {
+                flush();
+            }
+            if (codePoint < 0x80) {
+                buffer[position++] = (byte) codePoint;
+            } else if (codePoint < 0x800) {
+                buffer[position++] = (byte) (0xC0 | codePoint >> 6);
+                buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate((char) codePoint) && codePoint < 0x10000) {
+                // Like String.getBytes a malformed surrogate is replaced
+                buffer[position++] = '?';
+            } else if (codePoint < 0x10000) {
+                buffer[position++] = (byte) (0xE0 | codePoint >> 12);
+                buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+                buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+            }
+        }
+
+        void putAll(InputStream inputStream) throws IOException {
+            flush();
+            int count;
+            while ((count = inputStream.read(buffer)) > 0) {
+                hasher.update(buffer, 0, count);
+            }
+        }
+
+        String finish() {
+            flush();
+            return HEX_FORMAT.formatHex(hasher.digest());
+        }
+
+        private void flush() {
+            if (position > 0) {
+                hasher.update(buffer, 0, position);
+                position = 0;
+            }
+        }
+    }
+
+    private Checksums() {
+        // We do not want an instance
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.checksum;
+
+/**
+ * {@code Hasher} calculates a hash incrementally, an instance is reused for many hashes but never shared by threads.
+ *
+ * @author Martin Absmeier
+ */
+interface Hasher {
+
+    /**
+     * Updates the hash with the specified bytes.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     */
+    void update(byte[] bytes, int offset, int length);
+
+    /**
+     * Completes the hash and resets the hasher for the next hash.
+     *
+     * @return the hash
+     */
+    byte[] digest();
+
+    /**
+     * Discards the bytes of an incomplete hash.
+     */
+    void reset();
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.checksum;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * {@code Murmur3Hasher} implements the 128 bit variant of MurmurHash3 for x64 with seed 0. It is not a cryptographic
+ * hash, but it is much faster and sufficient to detect changes.
+ *
+ * @author Martin Absmeier
+ */
+final class Murmur3Hasher implements Hasher {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final int BLOCK_SIZE = 16;
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** The bytes not yet processed because they do not fill a block */
+    private final byte[] tail = new byte[BLOCK_SIZE];
+    private int tailLength;
+    private long length;
+    private long h1;
+    private long h2;
+
+    @Override
+    public void update(byte[] bytes, int offset, int length) {
+        this.length += length;
+
+        if (tailLength > 0) {
+            int count = Math.min(BLOCK_SIZE - tailLength, length);
+            System.arraycopy(bytes, offset, tail, tailLength, count);
+            tailLength += count;
+            offset += count;
+            length -= count;
+            if (tailLength < BLOCK_SIZE) {
+                return;
+            }
+            mix((long) LONG.get(tail, 0), (long) LONG.get(tail, 8));
+            tailLength = 0;
+        }
+
+        while (length >= BLOCK_SIZE) {
+            mix((long) LONG.get(bytes, offset), (long) LONG.get(bytes, offset + 8));
+            offset += BLOCK_SIZE;
+            length -= BLOCK_SIZE;
+        }
+
+        System.arraycopy(bytes, offset, tail, 0, length);
+        tailLength = length;
+    }
+
+    @Override
+    public byte[] digest() {
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = tailLength - 1; i >= 8; i--) {
+            k2 ^= (tail[i] & 0xFFL) << ((i - 8) * 8);
+        }
+        if (tailLength > 8) {
+            h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+        }
+        for (int i = Math.min(tailLength, 8) - 1; i >= 0; i--) {
+            k1 ^= (tail[i] & 0xFFL) << (i * 8);
+        }
+        if (tailLength > 0) {
+            h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        byte[] hash = new byte[BLOCK_SIZE];
+        LONG.set(hash, 0, h1);
+        LONG.set(hash, 8, h2);
+
+        reset();
+        return hash;
+    }
+
+    @Override
+    public void reset() {
+        tailLength = 0;
+        length = 0;
+        h1 = 0;
+        h2 = 0;
+    }
+
+    // #################################################################################################################
+
+    private void mix(long k1, long k2) {
+        h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+        h1 = Long.rotateLeft(h1, 27) + h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+        h2 = Long.rotateLeft(h2, 31) + h1;
+        h2 = h2 * 5 + 0x38495ab5;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
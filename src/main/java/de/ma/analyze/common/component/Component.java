@@ -18,19 +18,24 @@ package de.ma.analyze.common.component;
 import de.ma.analyze.common.AnalyzeConstants;
 import de.ma.analyze.common.component.type.ComponentAttributeType;
 import de.ma.analyze.common.component.type.ComponentType;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static de.ma.analyze.common.component.type.ComponentType.*;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
@@ -48,6 +53,8 @@ public class Component implements Serializable {
 
     private static final String PARAM_VALUE_NOT_NULL = "Parameter 'value' must not be NULL.";
     private static final String PARAM_TYPE_NOT_NULL = "Parameter 'type' must not be NULL.";
+    /** Below this number of children a linear search is faster than maintaining the index */
+    private static final int CHILD_INDEX_THRESHOLD = 8;
 
     /**
      * The parent of this component
@@ -75,7 +82,38 @@ public class Component implements Serializable {
      * The attributes of this component
      */
     @EqualsAndHashCode.Exclude
-    private List<ComponentAttribute> attributes;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ComponentAttributes attributes;
+    /**
+     * The view of the children returned by {@link #getChildren()}, it keeps the index of the children up to date
+     */
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient List<Component> childrenView;
+    /**
+     * The lazily built index of the children, it is discarded by every change of the children except appending a
+     * child which adds the child to the index
+     */
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient ComponentChildIndex childIndex;
+    /**
+     * The cached unique coordinate, it is cleared with the coordinates of all children if the parent, type or value changes
+     */
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient String uniqueCoordinate;
+    /**
+     * The loader of the children if they are not loaded yet, it is cleared after the children are loaded
+     */
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient volatile ComponentLoader childrenLoader;
 
     /**
      * Create a new instance specified by {@code type} and {@code value}.
@@ -90,7 +128,7 @@ public class Component implements Serializable {
         this.type = type;
         this.value = value;
         this.children = new ArrayList<>();
-        this.attributes = new ArrayList<>();
+        this.attributes = new ComponentAttributes();
     }
 
     // #################################################################################################################
@@ -104,7 +142,7 @@ public class Component implements Serializable {
      */
     public List<Component> findChildren(Predicate<Component> filter) {
         requireNonNull(filter, "Parameter 'filter' must not be NULL.");
-        return children.stream()
+        return getChildren().stream()
                 .filter(filter)
                 .toList();
     }
@@ -117,7 +155,7 @@ public class Component implements Serializable {
      */
     public Component findChild(Predicate<Component> filter) {
         requireNonNull(filter, "Parameter 'filter' must not be NULL.");
-        return children.stream()
+        return getChildren().stream()
                 .filter(filter)
                 .findFirst()
                 .orElse(null);
@@ -135,7 +173,29 @@ public class Component implements Serializable {
         requireNonNull(child, "Parameter 'child' must not be NULL.");
 
         child.setParent(this);
-        children.add(child);
+        loadedChildren().add(child);
+        if (nonNull(childIndex)) {
+            childIndex.add(child);
+        }
+    }
+
+    /**
+     * Removes the specified {@code child} from this {@link Component}. The child is compared by identity, not by equals.
+     *
+     * @param child the child to be removed
+     * @return true if the child was removed, false otherwise
+     */
+    public boolean removeChild(Component child) {
+        requireNonNull(child, "Parameter 'child' must not be NULL.");
+
+        boolean removed = loadedChildren().removeIf(candidate -> candidate == child);
+        if (removed) {
+            childIndex = null;
+            if (child.getParent() == this) {
+                child.setParent(null);
+            }
+        }
+        return removed;
     }
 
     /**
@@ -146,6 +206,11 @@ public class Component implements Serializable {
      */
     public List<Component> findChildrenByValue(String value) {
         requireNonNull(value, PARAM_VALUE_NOT_NULL);
+
+        ComponentChildIndex index = childIndex();
+        if (nonNull(index)) {
+            return index.findByValue(value);
+        }
         return findChildren(child -> value.equals(child.getValue()));
     }
 
@@ -159,9 +224,14 @@ public class Component implements Serializable {
      */
     public Component findChildByCoordinate(String coordinate) {
         requireNonNull(coordinate, "Parameter 'coordinate' must not be NULL.");
+
+        ComponentChildIndex index = childIndex();
+        if (nonNull(index)) {
+            return index.findByCoordinate(coordinate, getChildren());
+        }
         return findChild(child -> {
-            if (child.hasChecksum() && coordinate.contains("#")) {
-                return coordinate.equals(child.getValue() + "#" + child.getChecksum());
+            if (child.hasChecksum() && coordinate.contains(ComponentChildIndex.CHECKSUM_DELIMITER)) {
+                return coordinate.equals(child.getValue() + ComponentChildIndex.CHECKSUM_DELIMITER + child.getChecksum());
             }
             return coordinate.equals(child.getValue());
         });
@@ -175,6 +245,11 @@ public class Component implements Serializable {
      */
     public List<Component> findChildrenByType(ComponentType type) {
         requireNonNull(type, PARAM_TYPE_NOT_NULL);
+
+        ComponentChildIndex index = childIndex();
+        if (nonNull(index)) {
+            return index.findByType(type);
+        }
         return findChildren(child -> child.isType(type));
     }
 
@@ -186,6 +261,11 @@ public class Component implements Serializable {
      */
     public Component findChildByComponent(Component component) {
         requireNonNull(component, "Parameter 'component' must not be NULL.");
+
+        ComponentChildIndex index = childIndex();
+        if (nonNull(index)) {
+            return index.findByComponent(component);
+        }
         return findChild(child -> child.equals(component));
     }
 
@@ -196,7 +276,11 @@ public class Component implements Serializable {
      * @return true if the component does not know the child, otherwise false
      */
     public boolean childrenNotContains(Component component) {
-        return !children.contains(component);
+        ComponentChildIndex index = childIndex();
+        if (nonNull(index)) {
+            return isNull(index.findByComponent(component));
+        }
+        return !getChildren().contains(component);
     }
 
     /**
@@ -205,7 +289,105 @@ public class Component implements Serializable {
      * @return true if this component has children false otherwise
      */
     public boolean hasChildren() {
-        return !children.isEmpty();
+        return !getChildren().isEmpty();
+    }
+
+    /**
+     * Get the children of this component, they are loaded first if a {@link ComponentLoader} is set.<br>
+     * Changes of the returned list update the index of the children, but unlike {@link #addChild(Component)} and
+     * {@link #removeChild(Component)} they do not set or clear the parent of the child.
+     *
+     * @return the children
+     */
+    public List<Component> getChildren() {
+        List<Component> loaded = loadedChildren();
+        if (isNull(loaded)) {
+            return null;
+        }
+        List<Component> view = childrenView;
+        if (isNull(view)) {
+            view = new ChildrenView();
+            childrenView = view;
+        }
+        return view;
+    }
+
+    /**
+     * Set the children of this component, they are copied and a pending {@link ComponentLoader} is discarded.
+     *
+     * @param children the children
+     */
+    public void setChildren(List<Component> children) {
+        requireNonNull(children, "Parameter 'children' must not be NULL.");
+
+        this.children = new ArrayList<>(children);
+        this.childrenView = null;
+        this.childIndex = null;
+        this.childrenLoader = null;
+    }
+
+    /**
+     * Set the {@code loader} of the children, they are loaded on first access and appended to the current children.
+     * Lazily loaded children are not serialized with this component.
+     *
+     * @param loader the loader of the children
+     */
+    public void setChildrenLoader(ComponentLoader loader) {
+        requireNonNull(loader, "Parameter 'loader' must not be NULL.");
+        this.childrenLoader = loader;
+    }
+
+    /**
+     * Checks if the children of this component are not loaded yet.
+     *
+     * @return true if the children are loaded on next access false otherwise
+     */
+    public boolean hasUnloadedChildren() {
+        return nonNull(childrenLoader);
+    }
+
+    // #################################################################################################################
+
+    /**
+     * Set the parent of this component, the cached unique coordinates of this component and its children are cleared.
+     *
+     * @param parent the parent
+     */
+    public void setParent(Component parent) {
+        this.parent = parent;
+        invalidateUniqueCoordinate();
+    }
+
+    /**
+     * Set the type of this component, the index of the parent is invalidated.
+     *
+     * @param type the type
+     */
+    public void setType(ComponentType type) {
+        this.type = type;
+        invalidateParentIndex();
+        invalidateUniqueCoordinate();
+    }
+
+    /**
+     * Set the value of this component, the index of the parent is invalidated.
+     *
+     * @param value the value
+     */
+    public void setValue(String value) {
+        this.value = value;
+        invalidateParentIndex();
+        invalidateUniqueCoordinate();
+    }
+
+    /**
+     * Set the checksum of this component, the index of the parent is invalidated.
+     *
+     * @param checksum the checksum
+     */
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+        invalidateParentIndex();
     }
 
     // #################################################################################################################
@@ -221,6 +403,41 @@ public class Component implements Serializable {
         attributes.add(attribute);
     }
 
+    /**
+     * Add an attribute specified by {@code type} and the numeric {@code value} (e.g. a LINE) to the {@link Component}.
+     *
+     * @param type  the type of the attribute
+     * @param value the value of the attribute
+     */
+    public void addAttribute(ComponentAttributeType type, int value) {
+        attributes.add(type, value);
+    }
+
+    /**
+     * Get the attributes of this component, the list is a modifiable view of the packed attributes in the order they
+     * were added.<br>
+     * <b>Note:</b> The returned attributes are copies, changing them does not change the component. Replace an
+     * attribute with {@code set} instead.
+     *
+     * @return the attributes
+     */
+    public List<ComponentAttribute> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Set the attributes of this component, they are copied into the packed representation.
+     *
+     * @param attributes the attributes
+     */
+    public void setAttributes(List<ComponentAttribute> attributes) {
+        requireNonNull(attributes, "Parameter 'attributes' must not be NULL.");
+
+        ComponentAttributes packed = new ComponentAttributes();
+        attributes.forEach(packed::add);
+        this.attributes = packed;
+    }
+
     /**
      * Retrieves all attributes of the {@code component} specified by {@code type}.
      *
@@ -230,9 +447,7 @@ public class Component implements Serializable {
     public List<ComponentAttribute> findAttributesByType(ComponentAttributeType type) {
         requireNonNull(type, PARAM_TYPE_NOT_NULL);
 
-        return getAttributes().stream()
-                .filter(attribute -> type.equals(attribute.getType()))
-                .collect(Collectors.toList());
+        return attributes.findByType(type);
     }
 
     /**
@@ -336,17 +551,22 @@ public class Component implements Serializable {
     }
 
     /**
-     * Get the coordinate of this {@link Component}.
+     * Get the coordinate of this {@link Component}.<br>
+     * The coordinate is computed once and cached until the parent, type or value of this component or one of its
+     * parents changes.
      *
      * @return the coordinate of this component
      */
     public String getUniqueCoordinate() {
-        String coordinate = getValue();
-
-        if (hasParentAndParentIsNotRoot()) {
-            return getParent().getUniqueCoordinate()
-                    + AnalyzeConstants.JAVA.DELIMITER
-                    + coordinate;
+        String coordinate = uniqueCoordinate;
+        if (isNull(coordinate)) {
+            coordinate = getValue();
+            if (hasParentAndParentIsNotRoot()) {
+                coordinate = getParent().getUniqueCoordinate()
+                        .concat(AnalyzeConstants.JAVA.DELIMITER)
+                        .concat(coordinate);
+            }
+            uniqueCoordinate = coordinate;
         }
 
         return coordinate;
@@ -367,7 +587,7 @@ public class Component implements Serializable {
         }
 
         if (hasChildren()) {
-            for (Component child : children) {
+            for (Component child : getChildren()) {
                 components.addAll(child.findComponentsByType(type));
             }
         }
@@ -393,6 +613,119 @@ public class Component implements Serializable {
         return null;
     }
 
+    /**
+     * Return the index of the children, it is built if necessary.
+     *
+     * @return the index or NULL if there are too few children to be worth indexing
+     */
+    private ComponentChildIndex childIndex() {
+        List<Component> children = getChildren();
+        if (isNull(children) || children.size() < CHILD_INDEX_THRESHOLD) {
+            return null;
+        }
+        if (isNull(childIndex)) {
+            childIndex = new ComponentChildIndex(children);
+        }
+        return childIndex;
+    }
+
+    /**
+     * Return the modifiable children, they are loaded first if a {@link ComponentLoader} is set.
+     *
+     * @return the children
+     */
+    private List<Component> loadedChildren() {
+        if (nonNull(childrenLoader)) {
+            loadChildren();
+        }
+        return children;
+    }
+
+    /**
+     * Clears the cached unique coordinate of this component and its children. A child can only have a cached
+     * coordinate if its parent has one, so the recursion stops at the first component without one.
+     */
+    private void invalidateUniqueCoordinate() {
+        if (isNull(uniqueCoordinate)) {
+            return;
+        }
+        uniqueCoordinate = null;
+        if (nonNull(children)) {
+            children.forEach(Component::invalidateUniqueCoordinate);
+        }
+    }
+
+    /**
+     * Loads the children with the {@link ComponentLoader}, concurrent readers wait until all children are added.
+     */
+    private synchronized void loadChildren() {
+        ComponentLoader loader = childrenLoader;
+        if (isNull(loader)) {
+            return;
+        }
+        for (Component child : loader.loadChildren(this)) {
+            child.setParent(this);
+            children.add(child);
+        }
+        childIndex = null;
+        childrenLoader = null;
+    }
+
+    /**
+     * The view of the children returned by {@link #getChildren()}. A child appended at the end is added to the index
+     * of the children, every other change discards it.
+     */
+    private final class ChildrenView extends AbstractList<Component> implements RandomAccess {
+
+        @Override
+        public Component get(int index) {
+            return loadedChildren().get(index);
+        }
+
+        @Override
+        public int size() {
+            return loadedChildren().size();
+        }
+
+        @Override
+        public Component set(int index, Component child) {
+            requireNonNull(child, "Parameter 'child' must not be NULL.");
+
+            Component previous = loadedChildren().set(index, child);
+            childIndex = null;
+            return previous;
+        }
+
+        @Override
+        public void add(int index, Component child) {
+            requireNonNull(child, "Parameter 'child' must not be NULL.");
+
+            List<Component> loaded = loadedChildren();
+            boolean append = index == loaded.size();
+            loaded.add(index, child);
+            modCount++;
+            if (!append) {
+                childIndex = null;
+            } else if (nonNull(childIndex)) {
+                childIndex.add(child);
+            }
+        }
+
+        @Override
+        public Component remove(int index) {
+            Component removed = loadedChildren().remove(index);
+            modCount++;
+            childIndex = null;
+            return removed;
+        }
+    }
+
+    private void invalidateParentIndex() {
+        if (nonNull(parent)) {
+            parent.childIndex = null;
+        }
+    }
+
     private boolean isMethod() {
         return JAVA_METHOD.equals(getType());
     }
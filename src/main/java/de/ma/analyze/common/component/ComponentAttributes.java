@@ -0,0 +1,287 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.component;
+
+import de.ma.analyze.common.AnalyzeConstants.JAVA;
+import de.ma.analyze.common.component.type.ComponentAttributeType;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code ComponentAttributes} stores the attributes of a {@link Component} packed into primitives and provides them as
+ * list of {@link ComponentAttribute}.<br>
+ * Every attribute is one int holding the ordinal of its type and either the value itself (LINE and COLUMN), the index
+ * of a known java modifier or the index of the value in a string array, source names are interned. The attributes keep
+ * the order they were added in. The {@link ComponentAttribute}s are created on access, changing them does not change
+ * the component, use {@link #set(int, ComponentAttribute)} instead.
+ *
+ * @author Martin Absmeier
+ */
+public final class ComponentAttributes extends AbstractList<ComponentAttribute> implements RandomAccess, Serializable {
+    @Serial
+    private static final long serialVersionUID = 2351893468514792370L;
+
+    private static final ComponentAttributeType[] TYPES = ComponentAttributeType.values();
+    /** The known modifiers, the index is stored as inline payload of a modifier */
+    private static final List<String> MODIFIERS = List.of(JAVA.MODIFIER_PUBLIC, JAVA.MODIFIER_PROTECTED,
+            JAVA.MODIFIER_PRIVATE, JAVA.MODIFIER_ABSTRACT, JAVA.MODIFIER_STATIC, JAVA.MODIFIER_FINAL,
+            JAVA.MODIFIER_NATIVE, JAVA.MODIFIER_DEFAULT);
+    private static final int TYPE_SHIFT = 24;
+    /** Marks that the payload of an entry is the value itself (or the index of a known modifier) and not the index of the value */
+    private static final int INLINE_FLAG = 1 << 23;
+    private static final int PAYLOAD_MASK = INLINE_FLAG - 1;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] entries;
+    private int numberOfEntries;
+    private String[] values;
+    private int numberOfValues;
+
+    /**
+     * Add the specified {@code attribute}.
+     *
+     * @param attribute the attribute
+     * @return always true
+     */
+    @Override
+    public boolean add(ComponentAttribute attribute) {
+        requireNonNull(attribute, "Parameter 'attribute' must not be NULL.");
+
+        add(attribute.getType(), attribute.getValue());
+        return true;
+    }
+
+    /**
+     * Add the attribute specified by {@code type} and {@code value}.
+     *
+     * @param type  the type of the attribute
+     * @param value the value of the attribute
+     */
+    public void add(ComponentAttributeType type, String value) {
+        requireNonNull(type, "Parameter 'type' must not be NULL.");
+        requireNonNull(value, "Parameter 'value' must not be NULL.");
+
+        addEntry(numberOfEntries, encode(type, value));
+    }
+
+    /**
+     * Add the attribute specified by {@code type} and the numeric {@code value} (e.g. a LINE) without creating a string.
+     *
+     * @param type  the type of the attribute
+     * @param value the value of the attribute
+     */
+    public void add(ComponentAttributeType type, int value) {
+        requireNonNull(type, "Parameter 'type' must not be NULL.");
+
+        if (value >= 0 && value <= PAYLOAD_MASK && isNumeric(type)) {
+            addEntry(numberOfEntries, type.ordinal() << TYPE_SHIFT | INLINE_FLAG | value);
+        } else {
+            add(type, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Retrieves all attributes specified by {@code type}.
+     *
+     * @param type the type of the attributes
+     * @return list with all attributes matching the type or an empty list if no one matches
+     */
+    public List<ComponentAttribute> findByType(ComponentAttributeType type) {
+        requireNonNull(type, "Parameter 'type' must not be NULL.");
+
+        List<ComponentAttribute> result = new ArrayList<>();
+        int ordinal = type.ordinal();
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (entries[i] >>> TYPE_SHIFT == ordinal) {
+                result.add(decode(entries[i]));
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public ComponentAttribute get(int index) {
+        Objects.checkIndex(index, numberOfEntries);
+
+        return decode(entries[index]);
+    }
+
+    /**
+     * Replace the attribute at the specified {@code index}, the value of the replaced attribute may stay in the string
+     * array until the attributes are cleared.
+     *
+     * @param index     the index of the attribute
+     * @param attribute the new attribute
+     * @return the replaced attribute
+     */
+    @Override
+    public ComponentAttribute set(int index, ComponentAttribute attribute) {
+        Objects.checkIndex(index, numberOfEntries);
+        requireNonNull(attribute, "Parameter 'attribute' must not be NULL.");
+
+        ComponentAttribute previous = decode(entries[index]);
+        entries[index] = encode(attribute.getType(), attribute.getValue());
+        return previous;
+    }
+
+    /**
+     * Insert the specified {@code attribute} at the specified {@code index}.
+     *
+     * @param index     the index of the attribute
+     * @param attribute the attribute
+     */
+    @Override
+    public void add(int index, ComponentAttribute attribute) {
+        Objects.checkIndex(index, numberOfEntries + 1);
+        requireNonNull(attribute, "Parameter 'attribute' must not be NULL.");
+
+        addEntry(index, encode(attribute.getType(), attribute.getValue()));
+    }
+
+    /**
+     * Remove the attribute at the specified {@code index}, its value may stay in the string array until the
+     * attributes are cleared.
+     *
+     * @param index the index of the attribute
+     * @return the removed attribute
+     */
+    @Override
+    public ComponentAttribute remove(int index) {
+        Objects.checkIndex(index, numberOfEntries);
+
+        ComponentAttribute removed = decode(entries[index]);
+        System.arraycopy(entries, index + 1, entries, index, numberOfEntries - index - 1);
+        numberOfEntries--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return numberOfEntries;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof ComponentAttribute attribute) || isNull(attribute.getType()) || isNull(attribute.getValue())) {
+            return false;
+        }
+
+        int ordinal = attribute.getType().ordinal();
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (entries[i] >>> TYPE_SHIFT == ordinal && attribute.getValue().equals(valueOf(entries[i]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        entries = null;
+        numberOfEntries = 0;
+        values = null;
+        numberOfValues = 0;
+        modCount++;
+    }
+
+    // #################################################################################################################
+
+    private int encode(ComponentAttributeType type, String value) {
+        requireNonNull(type, "Parameter 'type' must not be NULL.");
+        requireNonNull(value, "Parameter 'value' must not be NULL.");
+
+        int modifier = ComponentAttributeType.JAVA_MODIFIER.equals(type) ? MODIFIERS.indexOf(value) : -1;
+        int payload;
+        if (modifier >= 0) {
+            payload = INLINE_FLAG | modifier;
+        } else if (isNumeric(type) && isInlineable(value)) {
+            payload = INLINE_FLAG | Integer.parseInt(value);
+        } else {
+            payload = addValue(ComponentAttributeType.SOURCE_NAME.equals(type) ? value.intern() : value);
+        }
+        return type.ordinal() << TYPE_SHIFT | payload;
+    }
+
+    private void addEntry(int index, int entry) {
+        if (isNull(entries)) {
+            entries = new int[INITIAL_CAPACITY];
+        } else if (numberOfEntries == entries.length) {
+            entries = Arrays.copyOf(entries, numberOfEntries * 2);
+        }
+        System.arraycopy(entries, index, entries, index + 1, numberOfEntries - index);
+        entries[index] = entry;
+        numberOfEntries++;
+        modCount++;
+    }
+
+    private int addValue(String value) {
+        if (isNull(values)) {
+            values = new String[INITIAL_CAPACITY];
+        } else if (numberOfValues == values.length) {
+            values = Arrays.copyOf(values, numberOfValues * 2);
+        }
+        values[numberOfValues] = value;
+        return numberOfValues++;
+    }
+
+    private ComponentAttribute decode(int entry) {
+        return new ComponentAttribute(TYPES[entry >>> TYPE_SHIFT], valueOf(entry));
+    }
+
+    private String valueOf(int entry) {
+        int payload = entry & (INLINE_FLAG | PAYLOAD_MASK);
+        if ((payload & INLINE_FLAG) == 0) {
+            return values[payload];
+        }
+        // Only modifiers and numeric attributes are inlined
+        return entry >>> TYPE_SHIFT == ComponentAttributeType.JAVA_MODIFIER.ordinal()
+                ? MODIFIERS.get(payload & PAYLOAD_MASK) : String.valueOf(payload & PAYLOAD_MASK);
+    }
+
+    private static boolean isNumeric(ComponentAttributeType type) {
+        return ComponentAttributeType.LINE.equals(type) || ComponentAttributeType.COLUMN.equals(type);
+    }
+
+    /**
+     * Checks if the {@code value} is a non-negative decimal number in canonical form that fits into the payload, only
+     * then the string created on access equals the added value.
+     */
+    private static boolean isInlineable(String value) {
+        int length = value.length();
+        if (length == 0 || length > 7 || (length > 1 && value.charAt(0) == '0')) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char character = value.charAt(i);
+            if (character < '0' || character > '9') {
+                return false;
+            }
+        }
+        return Integer.parseInt(value) <= PAYLOAD_MASK;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.component;
+
+import de.ma.analyze.common.component.type.ComponentType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * {@code ComponentChildIndex} indexes the children of a {@link Component} by value, by value#checksum and by type.<br>
+ * The lists of the index keep the order of the children, so the first match is the same as with a linear search.
+ *
+ * @author Martin Absmeier
+ */
+final class ComponentChildIndex {
+
+    /** The delimiter between value and checksum of a coordinate */
+    static final String CHECKSUM_DELIMITER = "#";
+
+    private final Map<String, List<Component>> byValue = new HashMap<>();
+    private final Map<String, List<Component>> byChecksumCoordinate = new HashMap<>();
+    private final Map<ComponentType, List<Component>> byType = new EnumMap<>(ComponentType.class);
+
+    /**
+     * Creates a new instance of {@code ComponentChildIndex} containing the specified {@code children}.
+     *
+     * @param children the children to be indexed
+     */
+    ComponentChildIndex(List<Component> children) {
+        children.forEach(this::add);
+    }
+
+    /**
+     * Add the specified {@code child} to the index.
+     *
+     * @param child the child
+     */
+    void add(Component child) {
+        byValue.computeIfAbsent(child.getValue(), key -> new ArrayList<>(1)).add(child);
+        if (child.hasChecksum()) {
+            String coordinate = child.getValue() + CHECKSUM_DELIMITER + child.getChecksum();
+            byChecksumCoordinate.computeIfAbsent(coordinate, key -> new ArrayList<>(1)).add(child);
+        }
+        if (nonNull(child.getType())) {
+            byType.computeIfAbsent(child.getType(), key -> new ArrayList<>()).add(child);
+        }
+    }
+
+    /**
+     * Retrieves the first child specified by {@code coordinate}, see {@link Component#findChildByCoordinate(String)}.
+     *
+     * @param coordinate the coordinate of the child
+     * @param children   the children in their order
+     * @return the child or NULL if no one is found
+     */
+    Component findByCoordinate(String coordinate, List<Component> children) {
+        List<Component> candidates = byValue.getOrDefault(coordinate, List.of());
+        if (!coordinate.contains(CHECKSUM_DELIMITER)) {
+            return candidates.isEmpty() ? null : candidates.getFirst();
+        }
+
+        // A child with checksum only matches by value#checksum, a child without checksum only by value
+        Component byValueMatch = candidates.stream()
+                .filter(child -> !child.hasChecksum())
+                .findFirst()
+                .orElse(null);
+        List<Component> checksumMatches = byChecksumCoordinate.getOrDefault(coordinate, List.of());
+        Component byChecksumMatch = checksumMatches.isEmpty() ? null : checksumMatches.getFirst();
+
+        if (isNull(byValueMatch) || isNull(byChecksumMatch)) {
+            return isNull(byValueMatch) ? byChecksumMatch : byValueMatch;
+        }
+        return children.indexOf(byValueMatch) < children.indexOf(byChecksumMatch) ? byValueMatch : byChecksumMatch;
+    }
+
+    /**
+     * Retrieves the first child equal to the specified {@code component}.
+     *
+     * @param component the component
+     * @return the child or NULL if no one is found
+     */
+    Component findByComponent(Component component) {
+        return byValue.getOrDefault(component.getValue(), List.of()).stream()
+                .filter(child -> child.equals(component))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Retrieves all children specified by {@code value}.
+     *
+     * @param value the value of the children
+     * @return the children or an empty list if no one is found
+     */
+    List<Component> findByValue(String value) {
+        return List.copyOf(byValue.getOrDefault(value, List.of()));
+    }
+
+    /**
+     * Retrieves all children specified by {@code type}.
+     *
+     * @param type the type of the children
+     * @return the children or an empty list if no one is found
+     */
+    List<Component> findByType(ComponentType type) {
+        return List.copyOf(byType.getOrDefault(type, List.of()));
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.component;
+
+import java.util.List;
+
+/**
+ * {@code ComponentLoader} loads the children of a {@link Component} on first access (e.g. from a memory-mapped library
+ * model), so that large trees are only materialized where they are used.
+ *
+ * @author Martin Absmeier
+ */
+@FunctionalInterface
+public interface ComponentLoader {
+
+    /**
+     * Loads the children of the specified {@code component}, the parent of the children is set by the component.
+     *
+     * @param component the component whose children are requested
+     * @return the children or an empty list if the component has no children
+     */
+    List<Component> loadChildren(Component component);
+}
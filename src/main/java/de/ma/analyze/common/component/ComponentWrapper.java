@@ -26,7 +26,9 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * {@code ComponentWrapper} overwrites the method {@link Component#equals(Object)} and {@link Component#hashCode()} of
- * {@link Component} because it has to be compared with the {@link Component#getUniqueCoordinate()} and not with the name.
+ * {@link Component} because it has to be compared with the {@link Component#getUniqueCoordinate()} and not with the name.<br>
+ * The unique coordinate is cached by the component and the string caches its hash, so equals and hashCode do not walk
+ * up the tree unless the parent of the component has changed.
  *
  * @author Martin Absmeier
  */
@@ -57,12 +59,16 @@ public class ComponentWrapper implements Serializable {
             return false;
         }
         ComponentWrapper otherComponent = (ComponentWrapper) other;
+        if (component == otherComponent.component) {
+            return true;
+        }
         return Objects.equals(component.getUniqueCoordinate(), otherComponent.component.getUniqueCoordinate());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(component.getUniqueCoordinate());
+        // Avoids the varargs array of Objects.hash, the hash of the cached coordinate is cached by the string itself
+        return Objects.hashCode(component.getUniqueCoordinate());
     }
 
     @Override
@@ -112,5 +112,14 @@ public enum ComponentAttributeType {
      * Every graph has an exit point - the first node in the graph is a RETURN_CONTEXT node. For linking we remember
      * the id of this node in the component
      */
-    JAVA_RETURN_CONTEXT_ID
+    JAVA_RETURN_CONTEXT_ID,
+
+    // #################################################################################################################
+    // Attributes appended after the java attributes, the ordinals of the existing attributes are persisted
+
+    /**
+     * The checksum of the source code of a type. It only detects changes of the body and is not part of the identity
+     * of the type, a component contains it at most once.
+     */
+    BODY_CHECKSUM
 }
\ No newline at end of file
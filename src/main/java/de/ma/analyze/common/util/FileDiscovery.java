@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.util;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code FileDiscovery} finds the source code files of a directory in a single walk for all extensions.<br>
+ * Excluded directories are pruned before they are entered, by default the build output and tool directories
+ * {@link #DEFAULT_EXCLUDED_DIRECTORIES}. Build output directories ({@link #BUILD_OUTPUT_DIRECTORIES}) are only pruned
+ * in the walked directory and in module roots (a directory containing one of {@link #MODULE_DESCRIPTORS}), so source
+ * packages with the same name (e.g. {@code de/build}) are still found. Additional glob patterns (e.g. {@code **}{@code /generated/**}) are matched
+ * against the path relative to the walked directory and exclude files as well as directories.
+ *
+ * @author Martin Absmeier
+ */
+@Log4j2
+public class FileDiscovery {
+
+    /** The names of the directories excluded by default */
+    public static final Set<String> DEFAULT_EXCLUDED_DIRECTORIES = Set.of("target", "build", ".git", "node_modules");
+    /** The names of the default excluded directories that are only pruned in the walked directory and module roots */
+    public static final Set<String> BUILD_OUTPUT_DIRECTORIES = Set.of("target", "build");
+    /** The build files marking a module root */
+    public static final List<String> MODULE_DESCRIPTORS = List.of("pom.xml", "build.gradle", "build.gradle.kts");
+
+    @Getter
+    private final List<String> excludes;
+    @Getter
+    private final boolean defaultExcludes;
+    private final List<PathMatcher> matchers;
+
+    /**
+     * Creates a new instance of {@code FileDiscovery} class.
+     *
+     * @param excludes        glob patterns of excluded files and directories, NULL means none
+     * @param defaultExcludes true if the {@link #DEFAULT_EXCLUDED_DIRECTORIES} are excluded, NULL means true
+     */
+    @Builder
+    public FileDiscovery(List<String> excludes, Boolean defaultExcludes) {
+        this.excludes = isNull(excludes) ? List.of() : List.copyOf(excludes);
+        this.defaultExcludes = !Boolean.FALSE.equals(defaultExcludes);
+        this.matchers = this.excludes.stream()
+                .map(pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern))
+                .toList();
+    }
+
+    /**
+     * Retrieve all files from the specified {@code directory} matching one of the {@code extensions}.
+     *
+     * @param directory  the directory to be walked
+     * @param extensions the extensions of the files without dot (e.g. 'java')
+     * @return list with the found files
+     * @throws IllegalArgumentException is thrown if parameter {@code directory} is not a directory
+     */
+    public List<File> findFiles(File directory, Collection<String> extensions) {
+        List<File> files = new ArrayList<>();
+        discover(directory, extensions, files::add);
+        return files;
+    }
+
+    /**
+     * Walks the specified {@code directory} and passes every file matching one of the {@code extensions} to the
+     * {@code consumer} as soon as it is found.
+     *
+     * @param directory  the directory to be walked
+     * @param extensions the extensions of the files without dot (e.g. 'java')
+     * @param consumer   the consumer of the found files
+     * @throws IllegalArgumentException is thrown if parameter {@code directory} is not a directory
+     */
+    public void discover(File directory, Collection<String> extensions, Consumer<File> consumer) {
+        requireNonNull(directory, "Parameter 'directory' must not be NULL.");
+        requireNonNull(extensions, "Parameter 'extensions' must not be NULL.");
+        requireNonNull(consumer, "Parameter 'consumer' must not be NULL.");
+
+        if (!directory.isDirectory()) {
+            throw new IllegalArgumentException("Not a directory: " + directory.getName());
+        }
+
+        List<String> suffixes = extensions.stream().map(extension -> ".".concat(extension)).toList();
+        Path root = directory.toPath();
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    if (!dir.equals(root) && isExcludedDirectory(root, dir)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile() && hasSuffix(file, suffixes) && !isExcluded(root, file)) {
+                        consumer.accept(file.toFile());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException ex) {
+                    log.warn("Can not read {} due to: {}", file, ex.getMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException ex) {
+            log.error("Can not find files due to: {}", ex.getMessage());
+            log.error(ex);
+        }
+    }
+
+    // #################################################################################################################
+
+    private boolean isExcludedDirectory(Path root, Path directory) {
+        return isDefaultExcluded(root, directory) || isExcluded(root, directory);
+    }
+
+    private boolean isDefaultExcluded(Path root, Path directory) {
+        String name = directory.getFileName().toString();
+        if (!defaultExcludes || !DEFAULT_EXCLUDED_DIRECTORIES.contains(name)) {
+            return false;
+        }
+        if (!BUILD_OUTPUT_DIRECTORIES.contains(name)) {
+            return true;
+        }
+
+        Path parent = directory.getParent();
+        return parent.equals(root) || MODULE_DESCRIPTORS.stream().anyMatch(descriptor -> Files.isRegularFile(parent.resolve(descriptor)));
+    }
+
+    private boolean isExcluded(Path root, Path path) {
+        if (matchers.isEmpty()) {
+            return false;
+        }
+        Path relative = root.relativize(path);
+        return matchers.stream().anyMatch(matcher -> matcher.matches(relative));
+    }
+
+    private static boolean hasSuffix(Path file, List<String> suffixes) {
+        String name = file.getFileName().toString();
+        for (String suffix : suffixes) {
+            if (name.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -15,16 +15,13 @@
  */
 package de.ma.analyze.common.util;
 
+import de.ma.analyze.common.checksum.ChecksumAlgorithm;
+import de.ma.analyze.common.checksum.Checksums;
 import lombok.extern.log4j.Log4j2;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -48,23 +45,26 @@ public class FileUtils {
         requireNonNull(directory, "Parameter 'directory' must not be NULL.");
         requireNonNull(extension, "Parameter 'extension' must not be NULL.");
 
-        if (!directory.isDirectory()) {
-            throw new IllegalArgumentException("Not a directory: " + directory.getName());
-        }
+        return FileDiscovery.builder().defaultExcludes(false).build().findFiles(directory, List.of(extension));
+    }
 
-        List<File> files = new ArrayList<>();
-        try (Stream<Path> paths = Files.walk(Paths.get(directory.getPath()))) {
-            files = paths
-                    .filter(Files::isRegularFile)
-                    .map(Path::toFile)
-                    .filter(file -> file.getName().endsWith(extension))
-                    .toList();
+    /**
+     * Calculate the checksum of the content of the specified {@code file} with the specified {@code algorithm}.
+     *
+     * @param algorithm the algorithm
+     * @param file      the file
+     * @return the checksum or an empty string if the file can not be read
+     */
+    public static String calculateChecksum(ChecksumAlgorithm algorithm, File file) {
+        requireNonNull(algorithm, "Parameter 'algorithm' must not be NULL.");
+        requireNonNull(file, "Parameter 'file' must not be NULL.");
+
+        try {
+            return Checksums.calculate(algorithm, file);
         } catch (IOException ex) {
-            log.error("Can not find files due to: {}", ex.getMessage());
-            log.error(ex);
+            log.error("Can not calculate checksum of file {} due to: {}", file.getName(), ex.getMessage());
+            return "";
         }
-
-        return files;
     }
 
     // #################################################################################################################
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.job;
+
+import de.ma.analyze.parser.common.SourceParserBase;
+import de.ma.analyze.parser.java.JavaApplication;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * {@code AnalysisJob} is an analysis queued or executed by the {@link AnalysisJobScheduler}.<br>
+ * The status is changed only by the scheduler, the {@link #getResult()} is completed with the application of the
+ * job when it has finished.
+ *
+ * @author Martin Absmeier
+ */
+@Getter
+public class AnalysisJob {
+
+    /** The unique id of the job */
+    private final String id;
+    /** The request of the job */
+    private final AnalysisRequest request;
+    /** The time the job was submitted */
+    private final Instant submitted;
+    /** Completed with the application if the job has completed, exceptionally if it has failed or was cancelled */
+    private final CompletableFuture<JavaApplication> result;
+    /** The order of submission, jobs with the same priority are executed in this order */
+    @Getter(AccessLevel.PACKAGE)
+    private final long sequence;
+    private volatile AnalysisJobStatus status;
+    /** The message of the error if the job has failed */
+    private volatile String errorMessage;
+    @Getter(AccessLevel.NONE)
+    private volatile SourceParserBase parser;
+    @Getter(AccessLevel.NONE)
+    private Thread runner;
+    @Getter(AccessLevel.NONE)
+    private boolean cancelRequested;
+
+    AnalysisJob(String id, AnalysisRequest request, long sequence) {
+        this.id = id;
+        this.request = request;
+        this.sequence = sequence;
+        this.submitted = Instant.now();
+        this.result = new CompletableFuture<>();
+        this.status = AnalysisJobStatus.QUEUED;
+    }
+
+    /**
+     * Return true if only the changed files are analyzed, such jobs are executed before full scans.
+     *
+     * @return true if incremental, false otherwise
+     */
+    public boolean isIncremental() {
+        return request.isIncremental();
+    }
+
+    /**
+     * Return the number of files the running step (parsing or executing a listener) of the job has processed.
+     *
+     * @return the number of processed files, 0 if the job has not started
+     */
+    public int getProcessedFiles() {
+        SourceParserBase current = parser;
+        return isNull(current) ? 0 : current.getProcessedFiles();
+    }
+
+    /**
+     * Return the number of files of the running step (parsing or executing a listener) of the job.
+     *
+     * @return the number of files, 0 if the job has not started
+     */
+    public int getNumberOfFiles() {
+        SourceParserBase current = parser;
+        return isNull(current) ? 0 : current.getNumberOfFiles();
+    }
+
+    // #################################################################################################################
+    // Status transitions used by the scheduler
+
+    /**
+     * Marks the job as running on the specified {@code thread}.
+     *
+     * @param thread the thread executing the job
+     * @return true if the job was queued, false if it was cancelled meanwhile
+     */
+    synchronized boolean start(Thread thread) {
+        if (status != AnalysisJobStatus.QUEUED) {
+            return false;
+        }
+        runner = thread;
+        status = AnalysisJobStatus.RUNNING;
+        return true;
+    }
+
+    void setParser(SourceParserBase parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Cancels the job. A queued job is cancelled immediately, the thread of a running job is interrupted and the job
+     * stops before the next file.
+     *
+     * @return true if the job was queued or running, false if it has already finished
+     */
+    synchronized boolean cancel() {
+        if (status == AnalysisJobStatus.QUEUED) {
+            status = AnalysisJobStatus.CANCELLED;
+            result.cancel(false);
+            return true;
+        }
+        if (status == AnalysisJobStatus.RUNNING) {
+            cancelRequested = true;
+            if (nonNull(runner)) {
+                runner.interrupt();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    synchronized void complete(JavaApplication application) {
+        finish();
+        if (cancelRequested) {
+            status = AnalysisJobStatus.CANCELLED;
+            result.cancel(false);
+        } else {
+            status = AnalysisJobStatus.COMPLETED;
+            result.complete(application);
+        }
+    }
+
+    synchronized void fail(Throwable cause) {
+        finish();
+        if (cancelRequested) {
+            status = AnalysisJobStatus.CANCELLED;
+            result.cancel(false);
+        } else {
+            errorMessage = cause.getMessage();
+            status = AnalysisJobStatus.FAILED;
+            result.completeExceptionally(cause);
+        }
+    }
+
+    private void finish() {
+        runner = null;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.job;
+
+import de.ma.analyze.common.checksum.ChecksumAlgorithm;
+import de.ma.analyze.parser.java.JavaApplication;
+import de.ma.analyze.parser.java.JavaSourceParser;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code AnalysisJobScheduler} queues analyses and executes them on virtual threads.<br>
+ * At most {@code analyze.jobs.max-concurrent} jobs run at the same time. Queued jobs do not occupy a thread, so many
+ * analyses can wait on one node. Incremental jobs are executed before full scans, jobs of the same kind in the order
+ * they were submitted. Jobs without an application create one with the {@code analyze.checksum.algorithm}.
+ *
+ * @author Martin Absmeier
+ */
+@Log4j2
+@Service
+public class AnalysisJobScheduler implements DisposableBean {
+
+    private static final Comparator<AnalysisJob> JOB_ORDER = Comparator
+            .comparing((AnalysisJob job) -> !job.isIncremental())
+            .thenComparingLong(AnalysisJob::getSequence);
+
+    private final int maxConcurrentJobs;
+    private final ChecksumAlgorithm checksumAlgorithm;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, AnalysisJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    /** Guarded by this */
+    private final PriorityQueue<AnalysisJob> queue = new PriorityQueue<>(JOB_ORDER);
+    /** Guarded by this */
+    private int runningJobs;
+    /** Guarded by this */
+    private boolean shutdown;
+
+    /**
+     * Creates a new instance of {@code AnalysisJobScheduler} class.
+     *
+     * @param maxConcurrentJobs the maximum number of jobs running at the same time
+     * @param checksumAlgorithm the checksum algorithm of the applications created for jobs without an application
+     */
+    public AnalysisJobScheduler(@Value("${analyze.jobs.max-concurrent:4}") int maxConcurrentJobs,
+                                @Value("${analyze.checksum.algorithm:SHA_512}") ChecksumAlgorithm checksumAlgorithm) {
+        if (maxConcurrentJobs < 1) {
+            throw new IllegalArgumentException("Parameter 'maxConcurrentJobs' must be greater than 0.");
+        }
+        requireNonNull(checksumAlgorithm, "Parameter 'checksumAlgorithm' must not be NULL.");
+
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.checksumAlgorithm = checksumAlgorithm;
+    }
+
+    /**
+     * Queues the analysis specified by {@code request}.
+     *
+     * @param request the request
+     * @return the queued job
+     * @throws IllegalArgumentException if the request is incremental but does not contain the application of the last
+     *                                  analysis
+     */
+    public AnalysisJob submit(AnalysisRequest request) {
+        requireNonNull(request, "Parameter 'request' must not be NULL.");
+        requireNonNull(request.getDirectory(), "Parameter 'request.directory' must not be NULL.");
+        requireNonNull(request.getRevisionId(), "Parameter 'request.revisionId' must not be NULL.");
+        if (request.isIncremental() && isNull(request.getApplication())) {
+            // The unchanged files are not parsed again, a new application would only contain the changed ones
+            throw new IllegalArgumentException("An incremental request requires the application of the last analysis.");
+        }
+
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString(), request, sequence.incrementAndGet());
+        synchronized (this) {
+            if (shutdown) {
+                throw new IllegalStateException("The scheduler is shut down.");
+            }
+            jobs.put(job.getId(), job);
+            queue.add(job);
+            dispatch();
+        }
+        log.info("Submitted {} job {} for directory -> {}", job.isIncremental() ? "incremental" : "full", job.getId(), request.getDirectory().getAbsolutePath());
+
+        return job;
+    }
+
+    /**
+     * Cancels the job specified by {@code id}.<br>
+     * <b>Note:</b> A running incremental job changes the application and incremental state of its request in place.
+     * If it is cancelled, both are left partially updated and must be discarded, the next analysis has to be a full
+     * one.
+     *
+     * @param id the unique id of the job
+     * @return true if the job was queued or running, false if it is unknown or has already finished
+     */
+    public boolean cancel(String id) {
+        requireNonNull(id, "Parameter 'id' must not be NULL.");
+
+        AnalysisJob job = jobs.get(id);
+        if (isNull(job) || !job.cancel()) {
+            return false;
+        }
+        synchronized (this) {
+            queue.remove(job);
+        }
+        log.info("Cancelled job {}.", id);
+
+        return true;
+    }
+
+    /**
+     * Retrieves the job specified by {@code id}.
+     *
+     * @param id the unique id of the job
+     * @return the job or NULL if no one is found
+     */
+    public AnalysisJob findJob(String id) {
+        requireNonNull(id, "Parameter 'id' must not be NULL.");
+
+        return jobs.get(id);
+    }
+
+    /**
+     * Return all jobs that have not been removed.
+     *
+     * @return the jobs
+     */
+    public List<AnalysisJob> getJobs() {
+        return List.copyOf(jobs.values());
+    }
+
+    /**
+     * Removes the finished job specified by {@code id}, so that its application can be discarded.
+     *
+     * @param id the unique id of the job
+     * @return the removed job or NULL if it is unknown or has not finished
+     */
+    public AnalysisJob removeJob(String id) {
+        requireNonNull(id, "Parameter 'id' must not be NULL.");
+
+        AnalysisJob job = jobs.get(id);
+        if (nonNull(job) && job.getStatus().isFinished() && jobs.remove(id, job)) {
+            return job;
+        }
+        return null;
+    }
+
+    /**
+     * Cancels all queued and running jobs, no job can be submitted afterward.
+     */
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            shutdown = true;
+            queue.clear();
+        }
+        jobs.values().forEach(AnalysisJob::cancel);
+        executor.shutdownNow();
+    }
+
+    // #################################################################################################################
+
+    /**
+     * Starts queued jobs while there are free slots, the caller has to hold the lock of this scheduler.
+     */
+    private void dispatch() {
+        while (runningJobs < maxConcurrentJobs && !queue.isEmpty()) {
+            AnalysisJob job = queue.poll();
+            if (job.getStatus() == AnalysisJobStatus.QUEUED) {
+                runningJobs++;
+                executor.execute(() -> run(job));
+            }
+        }
+    }
+
+    private void run(AnalysisJob job) {
+        try {
+            if (job.start(Thread.currentThread())) {
+                execute(job);
+            }
+        } finally {
+            synchronized (this) {
+                runningJobs--;
+                if (!shutdown) {
+                    dispatch();
+                }
+            }
+        }
+    }
+
+    private void execute(AnalysisJob job) {
+        AnalysisRequest request = job.getRequest();
+        JavaApplication application = nonNull(request.getApplication()) ? request.getApplication() : new JavaApplication(checksumAlgorithm);
+        log.info("Start job {} -> {}", job.getId(), request.getDirectory().getAbsolutePath());
+
+        try {
+            JavaSourceParser parser = JavaSourceParser.builder()
+                    .application(application)
+                    .revisionId(request.getRevisionId())
+                    .listeners(request.getListeners().stream().map(listener -> listener.apply(application)).toList())
+                    .libraries(request.getLibraries())
+                    .parallelism(request.getParallelism())
+                    .incrementalState(request.getIncrementalState())
+                    .build();
+            job.setParser(parser);
+            parser.parseDirectory(request.getDirectory());
+            job.complete(application);
+        } catch (Throwable ex) {
+            // Every failure finishes the job, otherwise callers waiting for its result would wait forever
+            job.fail(ex);
+            if (ex instanceof VirtualMachineError error) {
+                throw error;
+            }
+        } finally {
+            log.info("Finished job {} with status {}.", job.getId(), job.getStatus());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.job;
+
+/**
+ * {@code AnalysisJobStatus} is the status of an {@link AnalysisJob}.
+ *
+ * @author Martin Absmeier
+ */
+public enum AnalysisJobStatus {
+    /** The job waits for a free slot */
+    QUEUED,
+    /** The job is analyzing the source code */
+    RUNNING,
+    /** The job has finished, the application is available */
+    COMPLETED,
+    /** The job has stopped with an error */
+    FAILED,
+    /** The job was cancelled before it finished */
+    CANCELLED;
+
+    /**
+     * Return true if the job has finished, successfully or not.
+     *
+     * @return true if finished, false otherwise
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
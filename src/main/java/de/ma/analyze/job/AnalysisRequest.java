@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.job;
+
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.parser.common.IncrementalState;
+import de.ma.analyze.parser.common.listener.ListenerBase;
+import de.ma.analyze.parser.java.JavaApplication;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * {@code AnalysisRequest} describes an analysis submitted to the {@link AnalysisJobScheduler}.
+ *
+ * @author Martin Absmeier
+ */
+@Data
+@Builder
+public class AnalysisRequest {
+
+    /** The directory containing the source code */
+    private File directory;
+    /** The unique id of the source code */
+    private String revisionId;
+    /** Create the listeners executed in addition to the default listeners with the application of the job */
+    @Builder.Default
+    private List<Function<JavaApplication, ListenerBase>> listeners = new ArrayList<>();
+    /** The libraries to be initialized before parsing */
+    @Builder.Default
+    private List<Component> libraries = new ArrayList<>();
+    /**
+     * The application of the last analysis to be updated, NULL means a new application. It is required for an
+     * incremental analysis and left partially updated if the job is cancelled or fails.
+     */
+    private JavaApplication application;
+    /**
+     * The state of the last analysis to analyze only changed files, NULL means a full scan. It is left partially
+     * updated if the job is cancelled or fails.
+     */
+    private IncrementalState incrementalState;
+    /** The number of files parsed concurrently, NULL means sequential parsing */
+    private Integer parallelism;
+
+    /**
+     * Return true if only the changed files are analyzed.
+     *
+     * @return true if incremental, false otherwise
+     */
+    public boolean isIncremental() {
+        return nonNull(incrementalState);
+    }
+}
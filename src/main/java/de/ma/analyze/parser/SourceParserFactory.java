@@ -17,6 +17,7 @@ package de.ma.analyze.parser;
 
 import de.ma.analyze.common.component.Component;
 import de.ma.analyze.parser.common.listener.ListenerBase;
+import de.ma.analyze.parser.java.JavaApplication;
 import de.ma.analyze.parser.java.JavaSourceParser;
 
 import java.util.List;
@@ -26,13 +27,15 @@ public class SourceParserFactory {
     /**
      * Creates a new instance of {@link JavaSourceParser} class.
      *
-     * @param revisionId revisionId the unique id of the source code
-     * @param listeners  the listeners executed by the parser
-     * @param libraries  the libraries to be initialized before parsing
+     * @param application the application of the analysis, the listeners have to be created with it
+     * @param revisionId  revisionId the unique id of the source code
+     * @param listeners   the listeners executed by the parser
+     * @param libraries   the libraries to be initialized before parsing
      * @return the created instance
      */
-    public static JavaSourceParser createJavaSourceParser(String revisionId, List<ListenerBase> listeners, List<Component> libraries) {
-        return JavaSourceParser.builder().revisionId(revisionId).listeners(listeners).libraries(libraries).build();
+    public static JavaSourceParser createJavaSourceParser(JavaApplication application, String revisionId, List<ListenerBase> listeners,
+                                                          List<Component> libraries) {
+        return JavaSourceParser.builder().application(application).revisionId(revisionId).listeners(listeners).libraries(libraries).build();
     }
 
     // #################################################################################################################
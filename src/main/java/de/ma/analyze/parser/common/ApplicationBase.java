@@ -16,28 +16,84 @@
 package de.ma.analyze.parser.common;
 
 import de.ma.analyze.common.AnalyzeConstants.JAVA;
+import de.ma.analyze.common.checksum.ChecksumAlgorithm;
+import de.ma.analyze.common.checksum.Checksums;
 import de.ma.analyze.common.component.Component;
 import de.ma.analyze.common.component.type.ComponentType;
+import lombok.AccessLevel;
 import lombok.Getter;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import static de.ma.analyze.common.component.type.ComponentType.APP_ROOT;
+import static de.ma.analyze.common.component.type.ComponentType.ROOT;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 /**
- * {@code ApplicationBase} is the programming language independent base class of an application.
+ * {@code ApplicationBase} is the programming language independent base class of an application.<br>
+ * Several threads may merge components into the application at the same time. The children and attributes of a
+ * component of the application are only changed while holding the merge lock of its stripe. Lookups by unique
+ * coordinate take the same locks while they walk the tree, so they can run concurrently with merges and find either
+ * the state before or after a merge. Methods returning or walking whole trees (e.g. {@code getComponents()} or
+ * {@link #findAllComponentsByType(ComponentType)}) must not be used while components are merged.
  *
  * @author Martin Absmeier
  */
 @Getter
 public abstract class ApplicationBase {
     private final Component components = Component.builder().type(APP_ROOT).value(APP_ROOT.name()).build();
-    private final List<Component> libraries = new ArrayList<>();
+    /** The libraries of this application, they are only added with {@link #addLibrary(Component)} to keep the index */
+    @Getter(AccessLevel.NONE)
+    private final List<Component> libraries = new CopyOnWriteArrayList<>();
+    /** The canonical strings of the components of this application */
+    private final SymbolTable symbolTable = new SymbolTable();
+    /** The algorithm of the checksums of the components and files of this application */
+    private final ChecksumAlgorithm checksumAlgorithm;
+    /** Index of all application components by unique coordinate, the first registered component wins */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Component> applicationIndex = new ConcurrentHashMap<>();
+    /** Index of all library components by unique coordinate, the first library containing the coordinate wins */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Component> libraryIndex = new ConcurrentHashMap<>();
+    /** Number of libraries whose children are loaded lazily, they are not indexed up front */
+    @Getter(AccessLevel.NONE)
+    private volatile int lazyLibraries;
+    /** Locks guarding the children and attributes of the application components, a component maps to one stripe */
+    @Getter(AccessLevel.NONE)
+    private final Object[] mergeLocks = createMergeLocks();
+    private static final int MERGE_LOCK_STRIPES = 64;
+    /** Up to this number of component trees a reduction task merges them sequentially */
+    private static final int REDUCTION_THRESHOLD = 16;
     private static final String PARAM_UNIQUE_COORDINATE_NOT_NULL = "Parameter 'uniqueCoordinate' must not be NULL.";
+    private static final String CHECKSUM_DELIMITER = "#";
+
+    /**
+     * Creates a new instance of {@code ApplicationBase} class using the {@link Checksums#DEFAULT_ALGORITHM}.
+     */
+    protected ApplicationBase() {
+        this(Checksums.DEFAULT_ALGORITHM);
+    }
+
+    /**
+     * Creates a new instance of {@code ApplicationBase} class.<br>
+     * Checksums of different algorithms are not comparable, so an incremental analysis must keep the algorithm.
+     *
+     * @param checksumAlgorithm the algorithm of the checksums of the components and files
+     */
+    protected ApplicationBase(ChecksumAlgorithm checksumAlgorithm) {
+        requireNonNull(checksumAlgorithm, "Parameter 'checksumAlgorithm' must not be NULL.");
+
+        this.checksumAlgorithm = checksumAlgorithm;
+    }
 
     // #################################################################################################################
     // Interface
@@ -63,41 +119,100 @@ public abstract class ApplicationBase {
     public String getParamUniqueCoordinate(Component component) {
         requireNonNull(component, "Parameter 'component' must not be NULL.");
 
-        String uniqueCoordinate = component.getValue();
-        if (component.hasParentAndParentIsNotRoot()) {
-            uniqueCoordinate = getParamUniqueCoordinate(component.getParent())
-                    .concat(JAVA.DELIMITER)
-                    .concat(uniqueCoordinate);
-        }
-
-        return uniqueCoordinate;
+        return component.getUniqueCoordinate();
     }
 
     /**
      * Merges the specified {@code component} with this application.<br>
-     * To put it more precisely, the component is sorted into the right place in the tree.
+     * To put it more precisely, the component is sorted into the right place in the tree.<br>
+     * This method is thread-safe, merges of different files only wait for each other while they change the same
+     * component (e.g. add a class to the same package).
      *
      * @param component the component
      */
     public void mergeWithApplication(Component component) {
         requireNonNull(component, "Parameter 'component' must not be NULL.");
 
-        mergeComponent(component, components);
+        mergeComponent(component, components, null, true);
+    }
+
+    /**
+     * Merges the specified {@code components} (e.g. the component trees of all parsed files) with this application.<br>
+     * The trees are merged pairwise in a fork-join reduction on {@code parallelism} worker threads and only the
+     * reduced tree is merged into the application. The result is identical to merging the trees one after the other
+     * in the order of the list with {@link #mergeWithApplication(Component)}.<br>
+     * <b>Note:</b> The trees are merged into each other, they must not be used afterward.
+     *
+     * @param components  the components
+     * @param parallelism the number of worker threads
+     */
+    public void mergeWithApplication(List<Component> components, int parallelism) {
+        requireNonNull(components, "Parameter 'components' must not be NULL.");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parameter 'parallelism' must be greater than 0.");
+        }
+        if (components.isEmpty()) {
+            return;
+        }
+
+        // Indexed in the order of the list before the trees are combined, so the first registered component of a
+        // coordinate is the same as with sequential merging
+        components.forEach(component -> component.getChildren().forEach(child -> registerComponent(applicationIndex, child, null)));
+
+        Component reduced;
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            reduced = pool.invoke(new ReductionTask(components, 0, components.size()));
+        }
+        mergeComponent(reduced, this.components, null, false);
+    }
+
+    /**
+     * Removes the specified {@code component} with all its children from this application.
+     *
+     * @param component the component
+     */
+    public void removeComponent(Component component) {
+        requireNonNull(component, "Parameter 'component' must not be NULL.");
+
+        unregisterComponent(applicationIndex, component);
+        Component parent = component.getParent();
+        if (nonNull(parent)) {
+            synchronized (mergeLock(parent)) {
+                parent.removeChild(component);
+            }
+        }
     }
 
     /**
-     * Add the specified {@code library} to the libraries.
+     * Add the specified {@code library} to the libraries.<br>
+     * A library with unloaded children (e.g. a memory-mapped library model) is not indexed up front, its components
+     * are indexed when a lookup touches them.
      *
      * @param library the library
      */
-    public void addLibrary(Component library) {
+    public synchronized void addLibrary(Component library) {
         requireNonNull(library, "Parameter 'library' must not be NULL.");
 
         if (!libraries.contains(library)) {
             libraries.add(library);
+            if (library.hasUnloadedChildren()) {
+                lazyLibraries++;
+            } else {
+                library.getChildren().forEach(child -> registerComponent(libraryIndex, child, null));
+            }
         }
     }
 
+    /**
+     * Get the libraries of this application, the list is read-only. Libraries are added with
+     * {@link #addLibrary(Component)} only, so the index of the library components is always up to date.
+     *
+     * @return the libraries
+     */
+    public List<Component> getLibraries() {
+        return Collections.unmodifiableList(libraries);
+    }
+
     public List<Component> findAllComponentsByType(ComponentType componentType) {
         return components.findComponentsByType(componentType);
     }
@@ -130,7 +245,13 @@ public abstract class ApplicationBase {
     public Component findApplicationComponentByUniqueCoordinate(String uniqueCoordinate) {
         requireNonNull(uniqueCoordinate, PARAM_UNIQUE_COORDINATE_NOT_NULL);
 
-        return findComponentByUniqueCoordinate(components, uniqueCoordinate);
+        Component component = applicationIndex.get(uniqueCoordinate);
+        if (isNull(component) && uniqueCoordinate.contains(CHECKSUM_DELIMITER)) {
+            // Only the last segment of a coordinate is indexed with its checksum
+            component = findComponentByUniqueCoordinate(components, uniqueCoordinate);
+        }
+
+        return component;
     }
 
     /**
@@ -143,56 +264,199 @@ public abstract class ApplicationBase {
     public Component findLibraryComponentByUniqueCoordinate(String uniqueCoordinate) {
         requireNonNull(uniqueCoordinate, PARAM_UNIQUE_COORDINATE_NOT_NULL);
 
-        return libraries.stream()
+        Component component = libraryIndex.get(uniqueCoordinate);
+        if (nonNull(component) || (lazyLibraries == 0 && !uniqueCoordinate.contains(CHECKSUM_DELIMITER))) {
+            return component;
+        }
+
+        // Only the last segment of a coordinate is indexed with its checksum and lazy libraries are not indexed at all,
+        // walking the tree loads only the components along the coordinate
+        component = libraries.stream()
                 .map(library -> findComponentByUniqueCoordinate(library, uniqueCoordinate))
                 .filter(Objects::nonNull)
                 .findFirst()
                 .orElse(null);
+        if (nonNull(component)) {
+            libraryIndex.putIfAbsent(uniqueCoordinate, component);
+        }
+
+        return component;
     }
 
     // #################################################################################################################
 
     /**
-     * Add the children and attributes of the specified {@code component} into the pointer.
+     * Add the children and attributes of the specified {@code component} into the pointer.<br>
+     * The pointer is changed only while holding its merge lock. At most one merge lock is held at a time, so merges
+     * descending into the same subtree can not deadlock.
+     *
+     * @param component  the component
+     * @param pointer    the pointer to add the children and attributes
+     * @param coordinate the unique coordinate of the pointer or NULL if the pointer is the root
+     * @param register   true if added children are registered in the application index
+     */
+    private void mergeComponent(Component component, Component pointer, String coordinate, boolean register) {
+        Object lock = mergeLock(pointer);
+        synchronized (lock) {
+            updateComponent(component, pointer);
+        }
+
+        // The component is not part of the application, its children can be read without a lock
+        for (Component child : component.getChildren()) {
+            Component newPointer;
+            synchronized (lock) {
+                newPointer = pointer.findChildByComponent(child);
+                if (isNull(newPointer)) {
+                    if (register) {
+                        // Registered before it is visible, a merge into the child must not change it while it is indexed
+                        registerComponent(applicationIndex, child, coordinate);
+                    }
+                    pointer.addChild(child);
+                    continue;
+                }
+            }
+            // There can be more than one method or constructor with the same value let's add them
+            mergeComponent(child, newPointer, appendCoordinate(coordinate, newPointer.getValue()), register);
+        }
+    }
+
+    /**
+     * Add the children and attributes of the specified {@code component} into the pointer, both trees are not part of
+     * the application. Like {@link #mergeComponent(Component, Component, String, boolean)} but without locking and
+     * indexing.
      *
      * @param component the component
      * @param pointer   the pointer to add the children and attributes
      */
-    private void mergeComponent(Component component, Component pointer) {
+    private void combineComponent(Component component, Component pointer) {
         updateComponent(component, pointer);
 
-        List<Component> children = component.getChildren();
-        children.forEach(child -> {
+        for (Component child : component.getChildren()) {
             Component newPointer = pointer.findChildByComponent(child);
             if (isNull(newPointer)) {
                 pointer.addChild(child);
             } else {
-                // There can be more than one method or constructor with the same value let's add them
-                mergeComponent(child, newPointer);
+                combineComponent(child, newPointer);
             }
-        });
+        }
+    }
+
+    private Object mergeLock(Component component) {
+        return mergeLocks[System.identityHashCode(component) & (MERGE_LOCK_STRIPES - 1)];
+    }
+
+    private static Object[] createMergeLocks() {
+        Object[] locks = new Object[MERGE_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    /**
+     * Add the specified {@code component} and all its children to the specified {@code index}.
+     *
+     * @param index            the index
+     * @param component        the component
+     * @param parentCoordinate the unique coordinate of the parent or NULL if the parent is a root
+     */
+    private void registerComponent(Map<String, Component> index, Component component, String parentCoordinate) {
+        String coordinate = appendCoordinate(parentCoordinate, component.getValue());
+        index.putIfAbsent(coordinate, component);
+        if (component.hasChecksum()) {
+            index.putIfAbsent(coordinate + CHECKSUM_DELIMITER + component.getChecksum(), component);
+        }
+
+        component.getChildren().forEach(child -> registerComponent(index, child, coordinate));
+    }
+
+    /**
+     * Removes the specified {@code component} and all its children from the specified {@code index}.
+     *
+     * @param index     the index
+     * @param component the component
+     */
+    private void unregisterComponent(Map<String, Component> index, Component component) {
+        String coordinate = component.getUniqueCoordinate();
+        index.remove(coordinate, component);
+        if (component.hasChecksum()) {
+            index.remove(coordinate + CHECKSUM_DELIMITER + component.getChecksum(), component);
+        }
+
+        component.getChildren().forEach(child -> unregisterComponent(index, child));
+    }
+
+    private String appendCoordinate(String coordinate, String value) {
+        return isNull(coordinate) ? value : coordinate.concat(JAVA.DELIMITER).concat(value);
     }
 
     /**
-     * Retrieves child component of {@code component} specified by {@code coordinate}.
+     * Retrieves child component of {@code component} specified by {@code coordinate}.<br>
+     * The children of each component are searched while holding its merge lock, so the walk never sees a component
+     * while a merge changes its children (or loads the children of a lazy library component).
      *
      * @param component  the component
      * @param coordinate the  coordinate of the component
      * @return the component or [NULL] if no one is found
      */
     private Component findComponentByUniqueCoordinate(Component component, String coordinate) {
-        if (coordinate.contains(JAVA.DELIMITER)) {
-            String[] values = coordinate.split(JAVA.DELIMITER_REGEX);
-            for (String value : values) {
-                component = component.findChildByCoordinate(value);
-                if (isNull(component)) {
-                    return null;
-                }
+        int startIdx = 0;
+        int stopIdx = coordinate.indexOf(JAVA.DELIMITER);
+        while (stopIdx >= 0) {
+            component = findChildByCoordinate(component, coordinate.substring(startIdx, stopIdx));
+            if (isNull(component)) {
+                return null;
             }
-        } else {
-            component = component.findChildByCoordinate(coordinate);
+            startIdx = stopIdx + 1;
+            stopIdx = coordinate.indexOf(JAVA.DELIMITER, startIdx);
         }
 
-        return component;
+        return findChildByCoordinate(component, startIdx == 0 ? coordinate : coordinate.substring(startIdx));
+    }
+
+    private Component findChildByCoordinate(Component component, String coordinate) {
+        synchronized (mergeLock(component)) {
+            return component.findChildByCoordinate(coordinate);
+        }
+    }
+
+    // #################################################################################################################
+
+    /**
+     * Reduces a range of component trees to one tree. The trees are first merged into a new root, so equal siblings
+     * are combined exactly like {@link #mergeComponent(Component, Component, String, boolean)} does. The partial
+     * trees of both halves are combined afterward, the left one keeps its children first. Because merging keeps the
+     * first occurrence of each child and attribute, the order of the reduction does not change the result.
+     */
+    private final class ReductionTask extends RecursiveTask<Component> {
+        private final transient List<Component> components;
+        private final int fromIdx;
+        private final int toIdx;
+
+        private ReductionTask(List<Component> components, int fromIdx, int toIdx) {
+            this.components = components;
+            this.fromIdx = fromIdx;
+            this.toIdx = toIdx;
+        }
+
+        @Override
+        protected Component compute() {
+            if (toIdx - fromIdx <= REDUCTION_THRESHOLD) {
+                Component root = Component.builder().type(ROOT).value(ROOT.name()).build();
+                for (int i = fromIdx; i < toIdx; i++) {
+                    combineComponent(components.get(i), root);
+                }
+                return root;
+            }
+
+            int midIdx = (fromIdx + toIdx) >>> 1;
+            ReductionTask left = new ReductionTask(components, fromIdx, midIdx);
+            left.fork();
+            Component right = new ReductionTask(components, midIdx, toIdx).compute();
+            Component reduced = left.join();
+            combineComponent(right, reduced);
+
+            return reduced;
+        }
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.common;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * {@code DfaCacheStatistics} represents the size of the DFA cache shared by all lexers and parsers of a grammar.
+ *
+ * @author Martin Absmeier
+ */
+@Data
+@Builder
+public class DfaCacheStatistics {
+
+    /** The number of DFA states built by the lexer */
+    private long lexerDfaStates;
+    /** The number of DFA states built by the parser */
+    private long parserDfaStates;
+    /** The number of prediction contexts in the shared context cache */
+    private long predictionContexts;
+    /** The estimated memory used by the DFA cache in bytes */
+    private long estimatedBytes;
+
+    /**
+     * Return the number of DFA states of lexer and parser.
+     *
+     * @return the number of DFA states
+     */
+    public long getDfaStates() {
+        return lexerDfaStates + parserDfaStates;
+    }
+}
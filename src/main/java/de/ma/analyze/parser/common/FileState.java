@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.common;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@code FileState} represents the state of a source file at the last analysis.
+ *
+ * @author Martin Absmeier
+ */
+@Data
+@Builder
+public class FileState implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2279384467155712383L;
+
+    /** The name of the source file */
+    private String sourceName;
+    /** The absolute path of the source file */
+    private String path;
+    /** The checksum of the content of the source file */
+    private String checksum;
+    /** The unique id of the source code the file was analyzed with */
+    private String revisionId;
+    /** The unique coordinates of the top level components the file contributed to the application */
+    @Builder.Default
+    private Set<String> coordinates = new LinkedHashSet<>();
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.common;
+
+import de.ma.analyze.common.exception.ParserException;
+import lombok.NoArgsConstructor;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code IncrementalState} stores the {@link FileState} of all analyzed files, so that the next analysis only has to
+ * parse the changed, added and deleted files.<br>
+ * The state belongs to the component tree of the application it was recorded for, it must be kept and restored
+ * together with that tree.
+ *
+ * @author Martin Absmeier
+ */
+@NoArgsConstructor
+public class IncrementalState implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -3546447470117412985L;
+
+    private static final String PARAM_SOURCE_NAME_NOT_NULL = "Parameter 'sourceName' must not be NULL.";
+
+    private final Map<String, FileState> files = new HashMap<>();
+
+    /**
+     * Loads the state from the specified {@code file}.
+     *
+     * @param file the file the state was saved to
+     * @return the state
+     * @throws ParserException if the state can not be read
+     */
+    public static IncrementalState load(File file) {
+        requireNonNull(file, "Parameter 'file' must not be NULL.");
+
+        try (ObjectInputStream inputStream = new ObjectInputStream(new FileInputStream(file))) {
+            return (IncrementalState) inputStream.readObject();
+        } catch (IOException | ClassNotFoundException ex) {
+            throw new ParserException("Can not load incremental state from " + file.getAbsolutePath(), ex);
+        }
+    }
+
+    /**
+     * Saves the state to the specified {@code file}.
+     *
+     * @param file the file
+     * @throws ParserException if the state can not be written
+     */
+    public synchronized void save(File file) {
+        requireNonNull(file, "Parameter 'file' must not be NULL.");
+
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new FileOutputStream(file))) {
+            outputStream.writeObject(this);
+        } catch (IOException ex) {
+            throw new ParserException("Can not save incremental state to " + file.getAbsolutePath(), ex);
+        }
+    }
+
+    /**
+     * Retrieves the state of the file specified by {@code sourceName}.
+     *
+     * @param sourceName the name of the source file
+     * @return the state or NULL if the file is unknown
+     */
+    public synchronized FileState getFileState(String sourceName) {
+        requireNonNull(sourceName, PARAM_SOURCE_NAME_NOT_NULL);
+        return files.get(sourceName);
+    }
+
+    /**
+     * Add or replace the state of a file.
+     *
+     * @param fileState the state of the file
+     */
+    public synchronized void putFileState(FileState fileState) {
+        requireNonNull(fileState, "Parameter 'fileState' must not be NULL.");
+        files.put(fileState.getSourceName(), fileState);
+    }
+
+    /**
+     * Removes the state of the file specified by {@code sourceName}.
+     *
+     * @param sourceName the name of the source file
+     * @return the removed state or NULL if the file is unknown
+     */
+    public synchronized FileState removeFileState(String sourceName) {
+        requireNonNull(sourceName, PARAM_SOURCE_NAME_NOT_NULL);
+        return files.remove(sourceName);
+    }
+
+    /**
+     * Add the specified {@code coordinates} to the contributions of the file specified by {@code sourceName}.
+     *
+     * @param sourceName  the name of the source file
+     * @param coordinates the unique coordinates of the contributed components
+     */
+    public synchronized void addCoordinates(String sourceName, Collection<String> coordinates) {
+        requireNonNull(sourceName, PARAM_SOURCE_NAME_NOT_NULL);
+        FileState fileState = files.get(sourceName);
+        if (nonNull(fileState)) {
+            fileState.getCoordinates().addAll(coordinates);
+        }
+    }
+
+    /**
+     * Return the names of all known source files.
+     *
+     * @return the names of the source files
+     */
+    public synchronized Set<String> getSourceNames() {
+        return Set.copyOf(files.keySet());
+    }
+
+    /**
+     * Return the names of the source files that contributed the specified {@code coordinate}.
+     *
+     * @param coordinate the unique coordinate
+     * @return the names of the source files
+     */
+    public synchronized Set<String> findSourceNamesByCoordinate(String coordinate) {
+        requireNonNull(coordinate, "Parameter 'coordinate' must not be NULL.");
+        Set<String> sourceNames = new HashSet<>();
+        files.values().forEach(fileState -> {
+            if (fileState.getCoordinates().contains(coordinate)) {
+                sourceNames.add(fileState.getSourceName());
+            }
+        });
+        return sourceNames;
+    }
+}
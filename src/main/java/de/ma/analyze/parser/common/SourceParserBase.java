@@ -17,27 +17,44 @@ package de.ma.analyze.parser.common;
 
 import de.ma.analyze.common.component.Component;
 import de.ma.analyze.common.exception.ParserException;
+import de.ma.analyze.common.util.FileDiscovery;
 import de.ma.analyze.parser.SourceParser;
 import de.ma.analyze.parser.SourceType;
+import de.ma.analyze.parser.common.listener.CompositeListener;
 import de.ma.analyze.parser.common.listener.ListenerBase;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.Synchronized;
 import lombok.extern.log4j.Log4j2;
 import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.springframework.util.StopWatch;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static de.ma.analyze.common.AnalyzeConstants.COMMON.*;
-import static de.ma.analyze.common.util.FileUtils.findFilesByExtension;
+import static de.ma.analyze.common.component.type.ComponentType.JAVA_PACKAGE;
+import static de.ma.analyze.common.util.FileUtils.calculateChecksum;
 import static java.io.File.separator;
 import static java.lang.String.format;
 import static java.lang.System.lineSeparator;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
@@ -48,14 +65,65 @@ import static java.util.Objects.requireNonNull;
  */
 @Log4j2
 public abstract class SourceParserBase implements SourceParser {
+    /** The number of files parsed together while a directory is still walked in streaming mode */
+    private static final int DISCOVERY_BATCH_SIZE = 1000;
+
     @Getter
     protected final ApplicationBase application;
     @Getter
     protected final SourceType sourceType;
+    @Getter
+    protected final String revisionId;
     protected final ParseTreeWalker treeWalker;
     protected final StopWatch sw;
-    protected Integer numberOfFiles;
-    protected Integer countFiles;
+    protected final AtomicInteger numberOfFiles;
+    protected final AtomicInteger countFiles;
+    /**
+     * The number of files that could not be parsed with {@link PredictionMode#SLL} and needed the slow path.
+     */
+    protected final AtomicInteger countLLFiles;
+    /**
+     * The number of files parsed concurrently, 1 means sequential parsing.
+     */
+    @Getter
+    protected int parallelism;
+    /**
+     * If true each file is parsed, walked by all listeners and released before the next file is parsed.
+     */
+    @Getter
+    @Setter
+    protected boolean streaming;
+    /**
+     * If not NULL only changed, added and deleted files are analyzed and the state is updated accordingly.
+     */
+    @Getter
+    @Setter
+    protected IncrementalState incrementalState;
+    /**
+     * The states of the selected files, they are recorded in the {@link #incrementalState} after the results of all
+     * listeners of a file are merged.
+     */
+    private final Map<String, FileState> pendingFileStates = new ConcurrentHashMap<>();
+    /**
+     * If true the component trees of all files walked by a listener are merged pairwise on {@link #parallelism} worker
+     * threads before they are merged into the application. A listener must not depend on the components of other files
+     * then. It has no effect in streaming mode.
+     */
+    @Getter
+    @Setter
+    protected boolean parallelMerge;
+    /**
+     * If true all listeners are executed in one walk per file by a {@link CompositeListener}. The listeners run file by
+     * file and not listener by listener then, like in streaming mode which always walks a file only once.
+     */
+    @Getter
+    @Setter
+    protected boolean singleWalk;
+    /**
+     * Finds the files of a directory, excluded directories are not walked.
+     */
+    @Getter
+    protected FileDiscovery fileDiscovery;
     @Getter
     protected List<ListenerBase> listeners;
     @Getter
@@ -77,8 +145,14 @@ public abstract class SourceParserBase implements SourceParser {
 
         this.application = application;
         this.sourceType = sourceType;
+        this.revisionId = revisionId;
         this.treeWalker = ParseTreeWalker.DEFAULT;
         this.sw = new StopWatch("Source parsing");
+        this.numberOfFiles = new AtomicInteger();
+        this.countFiles = new AtomicInteger();
+        this.countLLFiles = new AtomicInteger();
+        this.parallelism = 1;
+        this.fileDiscovery = FileDiscovery.builder().build();
         this.listeners = new ArrayList<>();
         this.libraries = new ArrayList<>();
 
@@ -104,17 +178,36 @@ public abstract class SourceParserBase implements SourceParser {
         requireNonNull(directory, "Parameter 'directory' must be not NULL.");
 
         List<String> extensions = findExtensionsBySourceType(sourceType);
-        extensions.forEach(extension -> {
-            List<File> filesToParse = findFilesByExtension(directory, extension);
-            if (!filesToParse.isEmpty()) {
-                log.info("Reading files with extension [".concat(extension).concat("] from directory -> ").concat(directory.getAbsolutePath()));
-                log.info(lineSeparator());
-                parseFiles(filesToParse);
-            } else {
-                log.info("No files found for extension [".concat(extension).concat("] in directory -> ").concat(directory.getAbsolutePath()));
-                log.info(SEPARATOR);
+        log.info("Reading files with extensions {} from directory -> {}", extensions, directory.getAbsolutePath());
+        log.info(lineSeparator());
+
+        if (streaming && isNull(incrementalState)) {
+            // The found files are parsed in batches while the directory is still walked
+            List<File> batch = new ArrayList<>(DISCOVERY_BATCH_SIZE);
+            fileDiscovery.discover(directory, extensions, file -> {
+                batch.add(file);
+                if (batch.size() == DISCOVERY_BATCH_SIZE) {
+                    parseFiles(new ArrayList<>(batch));
+                    batch.clear();
+                }
+            });
+            if (!batch.isEmpty()) {
+                parseFiles(batch);
             }
-        });
+            return;
+        }
+
+        // All files have to be known before deleted files can be removed
+        List<File> filesToParse = fileDiscovery.findFiles(directory, extensions);
+        if (nonNull(incrementalState)) {
+            removeDeletedFiles(filesToParse);
+        }
+        if (filesToParse.isEmpty()) {
+            log.info("No files found for extensions {} in directory -> {}", extensions, directory.getAbsolutePath());
+            log.info(SEPARATOR);
+        } else {
+            parseFiles(filesToParse);
+        }
     }
 
     @Override
@@ -143,25 +236,76 @@ public abstract class SourceParserBase implements SourceParser {
         this.libraries.clear();
     }
 
+    /**
+     * Set the glob patterns of the files and directories excluded by {@link #parseDirectory(File)} in addition to the
+     * {@link FileDiscovery#DEFAULT_EXCLUDED_DIRECTORIES}.
+     *
+     * @param excludes the glob patterns relative to the parsed directory (e.g. {@code **}{@code /generated/**})
+     */
+    public void setExcludes(List<String> excludes) {
+        requireNonNull(excludes, "Parameter 'excludes' must not be NULL.");
+        this.fileDiscovery = FileDiscovery.builder().excludes(excludes).build();
+    }
+
+    /**
+     * Set the number of files parsed concurrently. The lexer and parser run per file on a bounded pool of worker
+     * threads, the listeners are still executed sequentially afterward.
+     *
+     * @param parallelism the number of worker threads, 1 means sequential parsing
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parameter 'parallelism' must be greater than 0.");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Return the number of files the running step (parsing or executing a listener) has processed so far.
+     *
+     * @return the number of processed files
+     */
+    public int getProcessedFiles() {
+        return countFiles.get();
+    }
+
+    /**
+     * Return the number of files of the running step (parsing or executing a listener).
+     *
+     * @return the number of files
+     */
+    public int getNumberOfFiles() {
+        return numberOfFiles.get();
+    }
+
     // #################################################################################################################
 
     /**
-     * Parses the source code and returns the {@link SourceParserResult}.
+     * Parses the source code and returns the {@link SourceParserResult}.<br>
+     * The file is parsed with the fast {@link PredictionMode#SLL} first. Only if this fails it is parsed again with
+     * the full {@link PredictionMode#LL} and a recovering error strategy.<br>
+     * Every successfully parsed file is counted, see {@link #getProcessedFiles()}.
      *
      * @param file the source code to be parsed
      * @return the parser result or NULL if the file can not be parsed
      */
-    @Synchronized
     protected SourceParserResult parseFile(File file) {
         try {
-            return tryPredictionMode(file, PredictionMode.LL);
-        } catch (IOException e) {
+            SourceParserResult parserResult;
             try {
-                return tryPredictionMode(file, PredictionMode.LL_EXACT_AMBIG_DETECTION);
-            } catch (IOException ex) {
-                String fileName = cleanupFileName(file.getAbsolutePath());
-                log.error("Can not parse file [{0}] due to: ", fileName);
+                parserResult = tryPredictionMode(file, PredictionMode.SLL);
+            } catch (ParseCancellationException ex) {
+                countLLFiles.incrementAndGet();
+                log.debug("Parsing with mode {} failed, retry with mode {} -> {}", PredictionMode.SLL, PredictionMode.LL, file.getName());
+                parserResult = tryPredictionMode(file, PredictionMode.LL);
             }
+
+            log.info("Executed [{} with mode {} on file {} of {}] -> {}", this.getClass().getSimpleName(), parserResult.getPredictionMode(),
+                    countFiles.incrementAndGet(), numberOfFiles, parserResult.getSourceName());
+            return parserResult;
+        } catch (IOException | ParseCancellationException ex) {
+            String fileName = cleanupFileName(file.getAbsolutePath());
+            log.error("Can not parse file [{}] due to: {}", fileName, ex.getMessage());
         }
 
         return null;
@@ -175,25 +319,19 @@ public abstract class SourceParserBase implements SourceParser {
      */
     @Synchronized
     protected List<SourceParserResult> executeParser(List<File> files) {
-        countFiles = 1;
-        numberOfFiles = files.size();
+        countFiles.set(0);
+        countLLFiles.set(0);
+        numberOfFiles.set(files.size());
 
         if (!sw.isRunning()) {
             sw.start("Parse summery");
         }
 
-        List<SourceParserResult> parserResults = new ArrayList<>(numberOfFiles);
-        files.stream()
-                .map(this::parseFile)
-                .filter(Objects::nonNull)
-                .forEach(parserResult -> {
-                    countFiles++;
-                    parserResults.add(parserResult);
-                });
+        List<SourceParserResult> parserResults = parallelism > 1 ? parseFilesConcurrently(files) : parseFilesSequentially(files);
 
         sw.stop();
         log.info(SEPARATOR);
-        log.info("{} processed {} files.", this.getClass().getSimpleName(), files.size());
+        log.info("{} processed {} of {} files, {} of them needed prediction mode {}.", this.getClass().getSimpleName(), countFiles, files.size(), countLLFiles, PredictionMode.LL);
         log.info(SEPARATOR);
 
         return parserResults;
@@ -207,8 +345,8 @@ public abstract class SourceParserBase implements SourceParser {
      */
     @Synchronized
     protected void executeListener(List<SourceParserResult> parserResults, ListenerBase listener) {
-        countFiles = 1;
-        numberOfFiles = parserResults.size();
+        countFiles.set(0);
+        numberOfFiles.set(parserResults.size());
 
         String listenerName = listener.getClass().getSimpleName();
         log.info("Execute listener {} on {} files.", listenerName, numberOfFiles);
@@ -218,15 +356,20 @@ public abstract class SourceParserBase implements SourceParser {
             sw.start(listenerName);
         }
 
+        List<Component> results = new ArrayList<>(parallelMerge ? parserResults.size() : 0);
         parserResults.forEach(parserResult -> {
-            listener.setSourceName(parserResult.getSourceName());
-            treeWalker.walk(listener, parserResult.getParseTree());
-            application.mergeWithApplication(listener.getResult());
-            listener.reset();
+            checkInterrupted();
+            if (parallelMerge) {
+                results.add(walkListener(parserResult, listener));
+            } else {
+                executeListener(parserResult, listener);
+            }
 
-            log.info("Executed [{} on file {} of {}] -> {}", listenerName, countFiles, numberOfFiles, parserResult.getSourceName());
-            countFiles++;
+            log.info("Executed [{} on file {} of {}] -> {}", listenerName, countFiles.incrementAndGet(), numberOfFiles, parserResult.getSourceName());
         });
+        if (parallelMerge) {
+            application.mergeWithApplication(results, parallelism);
+        }
 
         sw.stop();
         log.info(SEPARATOR);
@@ -234,7 +377,384 @@ public abstract class SourceParserBase implements SourceParser {
         log.info(SEPARATOR);
     }
 
+    /**
+     * Execute all listeners in one walk per file on all specified {@code parserResults}.<br>
+     * <b>Note:</b> The listeners run file by file and not listener by listener, a listener therefore only sees the
+     * components merged from files walked before.
+     *
+     * @param parserResults the parser results
+     */
+    @Synchronized
+    protected void executeListeners(List<SourceParserResult> parserResults) {
+        countFiles.set(0);
+        numberOfFiles.set(parserResults.size());
+
+        log.info("Execute {} listeners in one walk on {} files.", listeners.size(), numberOfFiles);
+        log.info(SEPARATOR);
+
+        if (!sw.isRunning()) {
+            sw.start("Single walk summery");
+        }
+
+        CompositeListener composite = createCompositeListener();
+        List<Component> results = new ArrayList<>(parallelMerge ? parserResults.size() * listeners.size() : 0);
+        parserResults.forEach(parserResult -> {
+            checkInterrupted();
+            if (parallelMerge) {
+                results.addAll(walkListeners(parserResult, composite));
+            } else {
+                walkListeners(parserResult, composite).forEach(application::mergeWithApplication);
+            }
+
+            log.info("Executed [{} listeners on file {} of {}] -> {}", listeners.size(), countFiles.incrementAndGet(), numberOfFiles, parserResult.getSourceName());
+        });
+        if (parallelMerge) {
+            application.mergeWithApplication(results, parallelism);
+        }
+
+        sw.stop();
+        log.info(SEPARATOR);
+        log.info("{} listeners processed {} files.", listeners.size(), numberOfFiles);
+        log.info(SEPARATOR);
+    }
+
+    /**
+     * Parses the specified {@code files} one after the other and executes all listeners on each file before the next
+     * one is parsed. The parse tree is released afterward, so the heap usage is proportional to the largest file
+     * and not to the number of files.<br>
+     * <b>Note:</b> The listeners run file by file and not listener by listener, a listener therefore only sees the
+     * components merged from files processed before.
+     *
+     * @param files the files to be parsed
+     */
+    @Synchronized
+    protected void executeStreaming(List<File> files) {
+        countFiles.set(0);
+        countLLFiles.set(0);
+        numberOfFiles.set(files.size());
+
+        if (!sw.isRunning()) {
+            sw.start("Streaming summery");
+        }
+
+        CompositeListener composite = createCompositeListener();
+        if (parallelism > 1) {
+            // Only one chunk of files is parsed ahead, the results are walked in order of the files
+            try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+                for (int fromIdx = 0; fromIdx < files.size(); fromIdx += parallelism) {
+                    checkInterrupted();
+                    List<File> chunk = files.subList(fromIdx, Math.min(fromIdx + parallelism, files.size()));
+                    parseFilesConcurrently(chunk, executor).forEach(parserResult -> executeListeners(parserResult, composite));
+                }
+            }
+        } else {
+            files.forEach(file -> {
+                checkInterrupted();
+                SourceParserResult parserResult = parseFile(file);
+                if (nonNull(parserResult)) {
+                    executeListeners(parserResult, composite);
+                }
+            });
+        }
+
+        sw.stop();
+        log.info(SEPARATOR);
+        log.info("{} processed {} of {} files with {} listeners, {} of them needed prediction mode {}.", this.getClass().getSimpleName(), countFiles, files.size(), listeners.size(), countLLFiles, PredictionMode.LL);
+        log.info(SEPARATOR);
+    }
+
+    /**
+     * Execute the specified {@code listener} on the specified {@code parserResult} and merge the result with the
+     * application.
+     *
+     * @param parserResult the parser result
+     * @param listener     the listener to be executed
+     */
+    protected void executeListener(SourceParserResult parserResult, ListenerBase listener) {
+        application.mergeWithApplication(walkListener(parserResult, listener));
+    }
+
+    /**
+     * Execute the specified {@code listener} on the specified {@code parserResult} and return the result without
+     * merging it with the application.
+     *
+     * @param parserResult the parser result
+     * @param listener     the listener to be executed
+     * @return the component tree of the file
+     */
+    protected Component walkListener(SourceParserResult parserResult, ListenerBase listener) {
+        listener.setSourceName(parserResult.getSourceName());
+        listener.setTokenStream(parserResult.getTokenStream());
+        treeWalker.walk(listener, parserResult.getParseTree());
+
+        return collectResult(parserResult, listener);
+    }
+
+    /**
+     * Execute all listeners in one walk on the specified {@code parserResult} and return their results without
+     * merging them with the application.
+     *
+     * @param parserResult the parser result
+     * @param composite    the composite of all listeners
+     * @return the component trees of the file in the order of the listeners
+     */
+    protected List<Component> walkListeners(SourceParserResult parserResult, CompositeListener composite) {
+        listeners.forEach(listener -> {
+            listener.setSourceName(parserResult.getSourceName());
+            listener.setTokenStream(parserResult.getTokenStream());
+        });
+        treeWalker.walk(composite, parserResult.getParseTree());
+
+        List<Component> results = new ArrayList<>(listeners.size());
+        listeners.forEach(listener -> results.add(collectResult(parserResult, listener)));
+        return results;
+    }
+
+    /**
+     * Return the generated base listener of the grammar whose empty methods the listeners override
+     * (e.g. JavaParserBaseListener), the {@link CompositeListener} only calls overridden methods.
+     *
+     * @return the class of the base listener
+     */
+    protected abstract Class<? extends ParseTreeListener> getBaseListenerClass();
+
+    /**
+     * Records the state of the file of the specified {@code parserResult} in the {@link #incrementalState}. It has to
+     * be called after the results of all listeners of the file are merged. A file that could not be parsed or whose
+     * analysis was interrupted is never recorded, so the next analysis parses it again.
+     *
+     * @param parserResult the parser result
+     */
+    protected void recordFileState(SourceParserResult parserResult) {
+        if (nonNull(incrementalState)) {
+            FileState fileState = pendingFileStates.remove(parserResult.getSourceName());
+            if (nonNull(fileState)) {
+                incrementalState.putFileState(fileState);
+            }
+        }
+    }
+
+    /**
+     * Discards the states of the selected files that were not recorded (e.g. the file could not be parsed).
+     */
+    protected void discardPendingFileStates() {
+        pendingFileStates.clear();
+    }
+
+    /**
+     * Selects the files of the specified {@code files} that have to be parsed because they are new, their content has
+     * changed or they contributed to the same components as a changed file. The components contributed by these files
+     * are removed from the application together with their states in the {@link #incrementalState}. The new states
+     * are recorded by {@link #recordFileState(SourceParserResult)} once the file is analyzed.
+     *
+     * @param files the files
+     * @return the files to be parsed
+     */
+    protected List<File> selectChangedFiles(List<File> files) {
+        Map<String, FileState> invalidated = new LinkedHashMap<>();
+        Map<String, FileState> selected = new LinkedHashMap<>();
+        files.forEach(file -> {
+            String sourceName = cleanupFileName(file.getAbsolutePath());
+            String checksum = calculateChecksum(application.getChecksumAlgorithm(), file);
+            FileState fileState = incrementalState.getFileState(sourceName);
+            if (isNull(fileState) || checksum.isEmpty() || !checksum.equals(fileState.getChecksum())) {
+                invalidateFile(sourceName, invalidated);
+                selected.put(sourceName, createFileState(sourceName, file, checksum));
+            }
+        });
+
+        // Files that shared components with a changed file have to be parsed again even if they have not changed
+        invalidated.forEach((sourceName, fileState) -> {
+            File file = new File(fileState.getPath());
+            if (!selected.containsKey(sourceName) && file.isFile()) {
+                selected.put(sourceName, createFileState(sourceName, file, calculateChecksum(application.getChecksumAlgorithm(), file)));
+            }
+        });
+        pendingFileStates.clear();
+        pendingFileStates.putAll(selected);
+
+        log.info("Incremental analysis selected {} of {} files.", selected.size(), files.size());
+        return selected.values().stream()
+                .map(fileState -> new File(fileState.getPath()))
+                .toList();
+    }
+
     // #################################################################################################################
+
+    /**
+     * Removes the components of all files of the {@link #incrementalState} that are not contained in the specified
+     * {@code files} any longer.
+     *
+     * @param files all source files of the parsed directory
+     */
+    private void removeDeletedFiles(List<File> files) {
+        Set<String> sourceNames = new HashSet<>();
+        files.forEach(file -> sourceNames.add(cleanupFileName(file.getAbsolutePath())));
+
+        Map<String, FileState> invalidated = new LinkedHashMap<>();
+        incrementalState.getSourceNames().stream()
+                .filter(sourceName -> !sourceNames.contains(sourceName))
+                .forEach(sourceName -> invalidateFile(sourceName, invalidated));
+
+        if (!invalidated.isEmpty()) {
+            log.info("Incremental analysis removed the components of {} files.", invalidated.size());
+        }
+    }
+
+    /**
+     * Removes the components contributed by the file specified by {@code sourceName} from the application and its
+     * state from the {@link #incrementalState}. All files contributing to the same components are invalidated too.
+     *
+     * @param sourceName  the name of the source file
+     * @param invalidated the states of all invalidated files
+     */
+    private void invalidateFile(String sourceName, Map<String, FileState> invalidated) {
+        FileState fileState = incrementalState.removeFileState(sourceName);
+        if (isNull(fileState)) {
+            return;
+        }
+        invalidated.put(sourceName, fileState);
+
+        for (String coordinate : fileState.getCoordinates()) {
+            Component component = application.findApplicationComponentByUniqueCoordinate(coordinate);
+            if (nonNull(component)) {
+                Component parent = component.getParent();
+                application.removeComponent(component);
+                removeEmptyPackages(parent);
+            }
+            incrementalState.findSourceNamesByCoordinate(coordinate).forEach(other -> invalidateFile(other, invalidated));
+        }
+    }
+
+    private void removeEmptyPackages(Component component) {
+        while (nonNull(component) && component.isType(JAVA_PACKAGE) && !component.hasChildren()) {
+            Component parent = component.getParent();
+            application.removeComponent(component);
+            component = parent;
+        }
+    }
+
+    /**
+     * Collects the unique coordinates of the top level components below the packages of the specified {@code component}.
+     *
+     * @param component   the component tree of a file
+     * @param coordinates the collected coordinates
+     */
+    private void collectContributedCoordinates(Component component, Set<String> coordinates) {
+        component.getChildren().forEach(child -> {
+            if (child.isType(JAVA_PACKAGE)) {
+                collectContributedCoordinates(child, coordinates);
+            } else {
+                coordinates.add(child.getUniqueCoordinate());
+            }
+        });
+    }
+
+    private FileState createFileState(String sourceName, File file, String checksum) {
+        return FileState.builder()
+                .sourceName(sourceName)
+                .path(file.getAbsolutePath())
+                .checksum(checksum)
+                .revisionId(revisionId)
+                .build();
+    }
+
+    /**
+     * Return the result of the specified {@code listener} for the specified {@code parserResult} and reset the
+     * listener for the next file.
+     *
+     * @param parserResult the parser result
+     * @param listener     the listener that has walked the file
+     * @return the component tree of the file
+     */
+    private Component collectResult(SourceParserResult parserResult, ListenerBase listener) {
+        Component result = listener.getResult();
+        FileState fileState = pendingFileStates.get(parserResult.getSourceName());
+        if (nonNull(incrementalState) && nonNull(fileState)) {
+            collectContributedCoordinates(result, fileState.getCoordinates());
+        }
+        listener.reset();
+
+        return result;
+    }
+
+    private CompositeListener createCompositeListener() {
+        return new CompositeListener(listeners, getBaseListenerClass());
+    }
+
+    /**
+     * Execute all listeners in one walk on the specified {@code parserResult} and release the parse tree afterward.
+     *
+     * @param parserResult the parser result
+     * @param composite    the composite of all listeners
+     */
+    private void executeListeners(SourceParserResult parserResult, CompositeListener composite) {
+        walkListeners(parserResult, composite).forEach(application::mergeWithApplication);
+        recordFileState(parserResult);
+        parserResult.setParseTree(null);
+
+        log.info("Executed [{} listeners] -> {}", listeners.size(), parserResult.getSourceName());
+    }
+
+    private List<SourceParserResult> parseFilesSequentially(List<File> files) {
+        List<SourceParserResult> parserResults = new ArrayList<>(files.size());
+        for (File file : files) {
+            checkInterrupted();
+            SourceParserResult parserResult = parseFile(file);
+            if (nonNull(parserResult)) {
+                parserResults.add(parserResult);
+            }
+        }
+
+        return parserResults;
+    }
+
+    /**
+     * Parses the files on a bounded pool of {@link #parallelism} worker threads. Each file gets its own lexer and
+     * parser, so the results stay isolated. The order of the results matches the order of the files.
+     *
+     * @param files the files to be parsed
+     * @return the parsing results
+     */
+    private List<SourceParserResult> parseFilesConcurrently(List<File> files) {
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            return parseFilesConcurrently(files, executor);
+        }
+    }
+
+    private List<SourceParserResult> parseFilesConcurrently(List<File> files, ExecutorService executor) {
+        List<Callable<SourceParserResult>> tasks = new ArrayList<>(files.size());
+        files.forEach(file -> tasks.add(() -> parseFile(file)));
+
+        List<SourceParserResult> parserResults = new ArrayList<>(files.size());
+        try {
+            for (Future<SourceParserResult> future : executor.invokeAll(tasks)) {
+                SourceParserResult parserResult = future.get();
+                if (nonNull(parserResult)) {
+                    parserResults.add(parserResult);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ParserException("Parsing was interrupted.", ex);
+        } catch (ExecutionException ex) {
+            throw new ParserException("Can not parse files due to: " + ex.getCause().getMessage(), ex.getCause());
+        }
+
+        return parserResults;
+    }
+
+    /**
+     * Stops the analysis between two files if the current thread was interrupted (e.g. the analysis job was cancelled).
+     *
+     * @throws ParserException if the current thread was interrupted
+     */
+    private void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new ParserException("Parsing was interrupted.");
+        }
+    }
+
     private List<String> findExtensionsBySourceType(SourceType type) {
         if (SourceType.JAVA.equals(type)) {
             return List.of("java");
@@ -244,7 +764,6 @@ public abstract class SourceParserBase implements SourceParser {
         throw new ParserException("Can not find extension for type: " + type.name());
     }
 
-    @Synchronized
     protected String cleanupFileName(String fileName) {
         if (fileName.contains(USER_DIR)) {
             fileName = fileName.replace(USER_DIR, "");
@@ -17,6 +17,8 @@ package de.ma.analyze.parser.common;
 
 import lombok.Builder;
 import lombok.Data;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.tree.ParseTree;
 
 /**
@@ -30,4 +32,8 @@ public class SourceParserResult {
 
     private ParseTree parseTree;
     private String sourceName;
+    /** The prediction mode the source was successfully parsed with */
+    private PredictionMode predictionMode;
+    /** The tokens of the source, the listeners calculate the checksums from them */
+    private TokenStream tokenStream;
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@code SymbolTable} canonicalizes the strings of an analysis (e.g. modifiers, type names and package segments), so
+ * that equal values of all components share one instance. It is thread-safe, so listeners running in parallel can
+ * use the same table.
+ *
+ * @author Martin Absmeier
+ */
+public class SymbolTable {
+
+    private final Map<String, String> symbols = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Returns the canonical instance of the specified {@code value}, the value itself becomes the canonical instance
+     * if it is not contained yet.
+     *
+     * @param value the value
+     * @return the canonical instance or NULL if the value is NULL
+     */
+    public String intern(String value) {
+        if (isNull(value)) {
+            return null;
+        }
+
+        String symbol = symbols.putIfAbsent(value, value);
+        if (isNull(symbol)) {
+            misses.increment();
+            return value;
+        }
+        hits.increment();
+        return symbol;
+    }
+
+    /**
+     * Return the current statistics of this table.
+     *
+     * @return the statistics
+     */
+    public SymbolTableStatistics getStatistics() {
+        return SymbolTableStatistics.builder()
+                .symbols(symbols.size())
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .build();
+    }
+
+    /**
+     * Removes all symbols and resets the statistics.
+     */
+    public void clear() {
+        symbols.clear();
+        hits.reset();
+        misses.reset();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.common;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * {@code SymbolTableStatistics} represents the size and the hit rate of a {@link SymbolTable}.
+ *
+ * @author Martin Absmeier
+ */
+@Data
+@Builder
+public class SymbolTableStatistics {
+
+    /** The number of distinct symbols */
+    private long symbols;
+    /** The number of lookups that returned an already contained symbol */
+    private long hits;
+    /** The number of lookups that added a new symbol */
+    private long misses;
+
+    /**
+     * Return the ratio of hits to all lookups.
+     *
+     * @return the hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
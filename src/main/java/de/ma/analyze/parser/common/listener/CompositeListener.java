@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.common.listener;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code CompositeListener} executes several listeners in one walk of a parse tree, the listeners are called in the
+ * order of the list.<br>
+ * The dispatch tables are computed when the composite is created. For every rule context only the listeners that
+ * override its enter or exit method (or {@code enterEveryRule} / {@code exitEveryRule}) of the generated base
+ * listener are called, all other listeners would only execute empty methods.
+ *
+ * @author Martin Absmeier
+ */
+public class CompositeListener implements ParseTreeListener {
+
+    private static final String ENTER_PREFIX = "enter";
+    private static final String EXIT_PREFIX = "exit";
+    private static final String ENTER_EVERY_RULE = "enterEveryRule";
+    private static final String EXIT_EVERY_RULE = "exitEveryRule";
+    private static final String VISIT_TERMINAL = "visitTerminal";
+    private static final String VISIT_ERROR_NODE = "visitErrorNode";
+
+    private final ParseTreeListener[] listeners;
+    private final Class<? extends ParseTreeListener> baseListener;
+    /** The listeners called when a rule context of the class is entered */
+    private final Map<Class<?>, ParseTreeListener[]> enterListeners = new HashMap<>();
+    /** The listeners called when a rule context of the class is exited */
+    private final Map<Class<?>, ParseTreeListener[]> exitListeners = new HashMap<>();
+    private final ParseTreeListener[] terminalListeners;
+    private final ParseTreeListener[] errorNodeListeners;
+
+    /**
+     * Creates a new instance of {@code CompositeListener} class.
+     *
+     * @param listeners    the listeners executed in one walk
+     * @param baseListener the generated base listener with empty methods (e.g. JavaParserBaseListener)
+     */
+    public CompositeListener(List<? extends ParseTreeListener> listeners, Class<? extends ParseTreeListener> baseListener) {
+        requireNonNull(listeners, "Parameter 'listeners' must not be NULL.");
+        requireNonNull(baseListener, "Parameter 'baseListener' must not be NULL.");
+
+        this.listeners = listeners.toArray(new ParseTreeListener[0]);
+        this.baseListener = baseListener;
+        for (Method method : baseListener.getMethods()) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            if (parameterTypes.length != 1 || ParserRuleContext.class.equals(parameterTypes[0])
+                    || !ParserRuleContext.class.isAssignableFrom(parameterTypes[0])) {
+                continue;
+            }
+
+            Class<?> contextClass = parameterTypes[0];
+            String name = method.getName();
+            if (name.startsWith(ENTER_PREFIX)) {
+                enterListeners.put(contextClass, select(listener -> overrides(listener, name, contextClass)
+                        || overrides(listener, ENTER_EVERY_RULE, ParserRuleContext.class)));
+            } else if (name.startsWith(EXIT_PREFIX)) {
+                exitListeners.put(contextClass, select(listener -> overrides(listener, name, contextClass)
+                        || overrides(listener, EXIT_EVERY_RULE, ParserRuleContext.class)));
+            }
+        }
+        this.terminalListeners = select(listener -> overrides(listener, VISIT_TERMINAL, TerminalNode.class));
+        this.errorNodeListeners = select(listener -> overrides(listener, VISIT_ERROR_NODE, ErrorNode.class));
+    }
+
+    // #################################################################################################################
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        // A context unknown to the base listener is dispatched to all listeners
+        for (ParseTreeListener listener : enterListeners.getOrDefault(ctx.getClass(), listeners)) {
+            listener.enterEveryRule(ctx);
+            ctx.enterRule(listener);
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        for (ParseTreeListener listener : exitListeners.getOrDefault(ctx.getClass(), listeners)) {
+            ctx.exitRule(listener);
+            listener.exitEveryRule(ctx);
+        }
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        for (ParseTreeListener listener : terminalListeners) {
+            listener.visitTerminal(node);
+        }
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        for (ParseTreeListener listener : errorNodeListeners) {
+            listener.visitErrorNode(node);
+        }
+    }
+
+    // #################################################################################################################
+
+    private ParseTreeListener[] select(Predicate<ParseTreeListener> predicate) {
+        return Arrays.stream(listeners)
+                .filter(predicate)
+                .toArray(ParseTreeListener[]::new);
+    }
+
+    /**
+     * Return true if the class of the specified {@code listener} overrides the method of the base listener.
+     *
+     * @param listener      the listener
+     * @param name          the name of the method
+     * @param parameterType the type of the only parameter of the method
+     * @return true if overridden, false if the method is declared in the base listener or one of its supertypes or the
+     * method does not exist
+     */
+    private boolean overrides(ParseTreeListener listener, String name, Class<?> parameterType) {
+        try {
+            return !listener.getClass().getMethod(name, parameterType).getDeclaringClass().isAssignableFrom(baseListener);
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
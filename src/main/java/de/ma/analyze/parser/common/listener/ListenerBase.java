@@ -15,14 +15,12 @@
  */
 package de.ma.analyze.parser.common.listener;
 
-import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.common.checksum.ChecksumAlgorithm;
+import de.ma.analyze.common.checksum.Checksums;
 import de.ma.analyze.common.component.Component;
+import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.tree.ParseTreeListener;
 
-import java.math.BigInteger;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-
 /**
  * {@code ListenerBase} defines a programming language independent interface for all listeners.
  *
@@ -44,25 +42,34 @@ public interface ListenerBase extends ParseTreeListener {
      */
     void setSourceName(String sourceName);
 
+    /**
+     * Set the tokens of the source code file, the checksums of the components are calculated from them.
+     *
+     * @param tokenStream the tokens of the source code file
+     */
+    void setTokenStream(TokenStream tokenStream);
+
     /**
      * Resets the parsing context so that the next listener can run.
      * <b>The libraries required for parsing must be initialized here.</b>
      */
     void reset();
 
+    /**
+     * Return the algorithm of the checksums, it is the algorithm of the application the listener belongs to.
+     *
+     * @return the algorithm
+     */
+    ChecksumAlgorithm getChecksumAlgorithm();
+
     /**
      * Calculate a checksum for the specified {@code sourceCode} parameter.
-     * Uses the {@link DEFAULT#ALGORITHM} to calculate the checksum.
+     * Uses the {@link #getChecksumAlgorithm()} to calculate the checksum.
      *
      * @param sourceCode the source code
-     * @return the {@link DEFAULT#ALGORITHM} checksum
+     * @return the checksum
      */
     default String calculateChecksum(String sourceCode) {
-        try {
-            byte[] checksum = MessageDigest.getInstance(DEFAULT.ALGORITHM).digest(sourceCode.getBytes(DEFAULT.ENCODING));
-            return String.format("%032x", new BigInteger(1, checksum));
-        } catch (NoSuchAlgorithmException ex) {
-            return "";
-        }
+        return Checksums.calculate(getChecksumAlgorithm(), sourceCode);
     }
 }
@@ -15,36 +15,47 @@
  */
 package de.ma.analyze.parser.java;
 
+import de.ma.analyze.common.checksum.ChecksumAlgorithm;
+import de.ma.analyze.common.checksum.Checksums;
 import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.ComponentAttribute;
+import de.ma.analyze.common.component.type.ComponentAttributeType;
 import de.ma.analyze.parser.common.ApplicationBase;
 
-import static java.util.Objects.isNull;
+import java.util.List;
+
 import static java.util.Objects.requireNonNull;
 
 /**
  * {@code JavaApplication} contains all data collected from the listeners.<br>
- * The graph one is generated / completed from the data collected by this java application.
+ * The graph one is generated / completed from the data collected by this java application.<br>
+ * Each analysis creates its own instance and passes it to the parser and listeners, so several analyses can run in
+ * the same JVM. The instance is discarded with the analysis.
  *
  * @author Martin Absmeier
  */
 public class JavaApplication extends ApplicationBase {
 
-    private static JavaApplication instance;
+    /**
+     * Creates a new instance of {@code JavaApplication} class using the {@link Checksums#DEFAULT_ALGORITHM}.
+     */
+    public JavaApplication() {
+        super();
+    }
 
     /**
-     * Creates a new instance of {@code JavaApplication} if necessary and returns it.
+     * Creates a new instance of {@code JavaApplication} class.
      *
-     * @return the singleton instance
+     * @param checksumAlgorithm the algorithm of the checksums of the components and files
      */
-    public static synchronized JavaApplication getInstance() {
-        if (isNull(instance)) {
-            instance = new JavaApplication();
-        }
-        return instance;
+    public JavaApplication(ChecksumAlgorithm checksumAlgorithm) {
+        super(checksumAlgorithm);
     }
 
     /**
-     * Update the specified {@code target} component with the attributes of {@code source} component.
+     * Update the specified {@code target} component with the attributes of {@code source} component.<br>
+     * The {@link ComponentAttributeType#BODY_CHECKSUM} of the target is replaced, all other attributes are added if
+     * not contained.
      *
      * @param source the component where data is read from
      * @param target the component where data is written
@@ -55,8 +66,11 @@ public class JavaApplication extends ApplicationBase {
         requireNonNull(target, "Parameter 'target' must not be NULL.");
 
         if (source.equals(target) && source.hasAttributes()) {
+            List<ComponentAttribute> targetAttributes = target.getAttributes();
             source.getAttributes().forEach(attribute -> {
-                if (!target.getAttributes().contains(attribute)) {
+                if (attribute.isType(ComponentAttributeType.BODY_CHECKSUM)) {
+                    replaceBodyChecksum(targetAttributes, attribute);
+                } else if (!targetAttributes.contains(attribute)) {
                     target.addAttribute(attribute);
                 }
             });
@@ -64,7 +78,14 @@ public class JavaApplication extends ApplicationBase {
     }
 
     // #################################################################################################################
-    private JavaApplication() {
-        // It's a singleton
+
+    private void replaceBodyChecksum(List<ComponentAttribute> attributes, ComponentAttribute bodyChecksum) {
+        for (int i = 0; i < attributes.size(); i++) {
+            if (attributes.get(i).isType(ComponentAttributeType.BODY_CHECKSUM)) {
+                attributes.set(i, bodyChecksum);
+                return;
+            }
+        }
+        attributes.add(bodyChecksum);
     }
 }
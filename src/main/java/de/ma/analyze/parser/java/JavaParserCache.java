@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.java;
+
+import de.ma.analyze.parser.common.DfaCacheStatistics;
+import lombok.extern.log4j.Log4j2;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.LexerATNSimulator;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * {@code JavaParserCache} manages the DFA and prediction context cache shared by all {@link JavaLexer} and
+ * {@link JavaParser} instances.<br>
+ * ANTLR builds the DFA lazily while parsing, so the first files are slow and the cache grows without bound in a
+ * long-running process. This class can warm up the cache with a bundled corpus, reports its size and clears it if
+ * it exceeds {@link #getMaxDfaStates()}.
+ *
+ * @author Martin Absmeier
+ */
+@Log4j2
+public final class JavaParserCache {
+
+    /** The location of the source files used to warm up the cache */
+    public static final String WARM_UP_CORPUS = "classpath*:warmup/java/**/*.java";
+
+    // Rough estimates of the retained size, DFA states and configurations are not measurable without an agent
+    private static final long BYTES_PER_DFA_STATE = 96;
+    private static final long BYTES_PER_ATN_CONFIG = 48;
+    private static final long BYTES_PER_EDGE = 8;
+    private static final long BYTES_PER_PREDICTION_CONTEXT = 64;
+
+    private static volatile Generation generation = new Generation();
+    private static volatile long maxDfaStates = Long.MAX_VALUE;
+
+    /**
+     * Installs simulators using the current cache generation at the specified {@code lexer} and {@code parser}.
+     *
+     * @param lexer  the lexer
+     * @param parser the parser
+     */
+    static void install(JavaLexer lexer, JavaParser parser) {
+        Generation current = generation;
+        lexer.setInterpreter(new LexerATNSimulator(lexer, JavaLexer._ATN, current.lexerDfa, current.lexerContextCache));
+        parser.setInterpreter(new ParserATNSimulator(parser, JavaParser._ATN, current.parserDfa, current.parserContextCache));
+    }
+
+    /**
+     * Parses the bundled {@link #WARM_UP_CORPUS} so that the DFA is built before the first real file is parsed.
+     *
+     * @return the number of parsed files
+     */
+    public static int warmUp() {
+        int count = 0;
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(WARM_UP_CORPUS);
+            for (Resource resource : resources) {
+                try (InputStream inputStream = resource.getInputStream()) {
+                    warmUp(CharStreams.fromStream(inputStream));
+                    count++;
+                }
+            }
+        } catch (IOException ex) {
+            log.error("Can not read warm up corpus due to: {}", ex.getMessage());
+        }
+
+        log.info("Warmed up java parser with {} files -> {}", count, getStatistics());
+        return count;
+    }
+
+    /**
+     * Return the current size of the cache.
+     *
+     * @return the statistics of the cache
+     */
+    public static DfaCacheStatistics getStatistics() {
+        Generation current = generation;
+        long[] lexer = countStates(current.lexerDfa);
+        long[] parser = countStates(current.parserDfa);
+        long contexts = (long) current.lexerContextCache.size() + current.parserContextCache.size();
+        long estimatedBytes = lexer[1] + parser[1] + contexts * BYTES_PER_PREDICTION_CONTEXT;
+
+        return DfaCacheStatistics.builder()
+                .lexerDfaStates(lexer[0])
+                .parserDfaStates(parser[0])
+                .predictionContexts(contexts)
+                .estimatedBytes(estimatedBytes)
+                .build();
+    }
+
+    /**
+     * Discards the cache. Parsers already running keep using the old cache until they are finished.
+     */
+    public static void clear() {
+        generation = new Generation();
+    }
+
+    /**
+     * Discards the cache if the number of DFA states exceeds {@link #getMaxDfaStates()}.
+     *
+     * @return true if the cache was discarded, false otherwise
+     */
+    public static boolean clearIfExceeded() {
+        DfaCacheStatistics statistics = getStatistics();
+        if (statistics.getDfaStates() > maxDfaStates) {
+            log.info("DFA cache exceeds {} states, it is discarded -> {}", maxDfaStates, statistics);
+            clear();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Return the maximum number of DFA states before the cache is discarded.
+     *
+     * @return the maximum number of DFA states
+     */
+    public static long getMaxDfaStates() {
+        return maxDfaStates;
+    }
+
+    /**
+     * Set the maximum number of DFA states before the cache is discarded.
+     *
+     * @param maxDfaStates the maximum number of DFA states
+     */
+    public static void setMaxDfaStates(long maxDfaStates) {
+        if (maxDfaStates < 1) {
+            throw new IllegalArgumentException("Parameter 'maxDfaStates' must be greater than 0.");
+        }
+        JavaParserCache.maxDfaStates = maxDfaStates;
+    }
+
+    // #################################################################################################################
+
+    private static void warmUp(CharStream input) {
+        try {
+            JavaSourceParser.buildParser(input, PredictionMode.SLL).compilationUnit();
+        } catch (ParseCancellationException ex) {
+            input.seek(0);
+            JavaSourceParser.buildParser(input, PredictionMode.LL).compilationUnit();
+        }
+    }
+
+    /**
+     * Count the states of the specified {@code dfas}.
+     *
+     * @param dfas the DFAs of all decisions
+     * @return the number of states at index 0 and the estimated bytes at index 1
+     */
+    private static long[] countStates(DFA[] dfas) {
+        long states = 0;
+        long bytes = 0;
+        for (DFA dfa : dfas) {
+            // The simulators synchronize on the states while adding new ones
+            synchronized (dfa.states) {
+                for (DFAState state : dfa.states.keySet()) {
+                    states++;
+                    bytes += BYTES_PER_DFA_STATE;
+                    if (nonNull(state.configs)) {
+                        bytes += state.configs.size() * BYTES_PER_ATN_CONFIG;
+                    }
+                    if (nonNull(state.edges)) {
+                        bytes += state.edges.length * BYTES_PER_EDGE;
+                    }
+                }
+            }
+        }
+        return new long[]{states, bytes};
+    }
+
+    private static DFA[] createDfa(ATN atn) {
+        DFA[] dfa = new DFA[atn.getNumberOfDecisions()];
+        for (int i = 0; i < dfa.length; i++) {
+            dfa[i] = new DFA(atn.getDecisionState(i), i);
+        }
+        return dfa;
+    }
+
+    /**
+     * One generation of the cache, clearing the cache replaces the generation.
+     */
+    private static final class Generation {
+        private final DFA[] lexerDfa = createDfa(JavaLexer._ATN);
+        private final DFA[] parserDfa = createDfa(JavaParser._ATN);
+        private final PredictionContextCache lexerContextCache = new PredictionContextCache();
+        private final PredictionContextCache parserContextCache = new PredictionContextCache();
+    }
+
+    private JavaParserCache() {
+        // We do not want an instance
+    }
+}
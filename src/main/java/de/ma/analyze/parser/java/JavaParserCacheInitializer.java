@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.java;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code JavaParserCacheInitializer} configures the {@link JavaParserCache} and warms it up at startup if enabled.
+ *
+ * @author Martin Absmeier
+ */
+@Component
+public class JavaParserCacheInitializer implements ApplicationRunner {
+
+    private final boolean warmUp;
+    private final long maxDfaStates;
+
+    /**
+     * Creates a new instance of {@code JavaParserCacheInitializer} class.
+     *
+     * @param warmUp       true if the cache is warmed up at startup, false otherwise
+     * @param maxDfaStates the maximum number of DFA states before the cache is discarded
+     */
+    public JavaParserCacheInitializer(@Value("${analyze.parser.cache.warm-up:false}") boolean warmUp,
+                                      @Value("${analyze.parser.cache.max-dfa-states:" + Long.MAX_VALUE + "}") long maxDfaStates) {
+        this.warmUp = warmUp;
+        this.maxDfaStates = maxDfaStates;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        JavaParserCache.setMaxDfaStates(maxDfaStates);
+        if (warmUp) {
+            JavaParserCache.warmUp();
+        }
+    }
+}
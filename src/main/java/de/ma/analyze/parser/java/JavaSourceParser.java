@@ -17,52 +17,99 @@ package de.ma.analyze.parser.java;
 
 import de.ma.analyze.common.component.Component;
 import de.ma.analyze.parser.SourceType;
+import de.ma.analyze.parser.common.IncrementalState;
 import de.ma.analyze.parser.common.SourceParserBase;
 import de.ma.analyze.parser.common.SourceParserResult;
+import de.ma.analyze.parser.common.SymbolTableStatistics;
 import de.ma.analyze.parser.common.listener.ListenerBase;
 import de.ma.analyze.parser.common.listener.SyntaxErrorListener;
+import de.ma.analyze.parser.java.listener.JavaListenerBase;
 import de.ma.analyze.parser.java.listener.JavaStructureListener;
 import lombok.Builder;
 import lombok.extern.log4j.Log4j2;
 import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
 
 import static de.ma.analyze.common.AnalyzeConstants.COMMON.SEPARATOR;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 @Log4j2
 public class JavaSourceParser extends SourceParserBase {
 
     /**
-     * Creates a new instance of {@code JavaSourceParser} with the specified {@code libraries} class.
+     * Creates a new instance of {@code JavaSourceParser} with the specified {@code libraries} class.<br>
+     * The listeners have to be created with the same {@code application} as the parser.
      *
-     * @param revisionId revisionId the unique id of the source code
-     * @param listeners  the listeners executed by the parser
-     * @param libraries  the libraries to be initialized before parsing
+     * @param application      the application of the analysis, NULL means a new application
+     * @param revisionId       revisionId the unique id of the source code
+     * @param listeners        the listeners executed by the parser
+     * @param libraries        the libraries to be initialized before parsing
+     * @param parallelism      the number of files parsed concurrently, NULL means sequential parsing
+     * @param streaming        true if each file is parsed, walked and released before the next one, NULL means false
+     * @param incrementalState the state of the last analysis to analyze only changed files, NULL means full analysis
+     * @param excludes         glob patterns of files and directories not parsed, NULL means only the default excludes
+     * @param parallelMerge    true if the component trees of the files are merged in parallel, NULL means false
+     * @param singleWalk       true if all listeners are executed in one walk per file, NULL means false
+     * @throws IllegalArgumentException if a listener was created with another application
      */
     @Builder
-    public JavaSourceParser(String revisionId, List<ListenerBase> listeners, List<Component> libraries) {
-        super(JavaApplication.getInstance(), revisionId, SourceType.JAVA, listeners, libraries);
+    public JavaSourceParser(JavaApplication application, String revisionId, List<ListenerBase> listeners,
+                            List<Component> libraries, Integer parallelism, Boolean streaming,
+                            IncrementalState incrementalState, List<String> excludes, Boolean parallelMerge,
+                            Boolean singleWalk) {
+        super(requireSameApplication(nonNull(application) ? application : new JavaApplication(), listeners), revisionId,
+                SourceType.JAVA, listeners, libraries);
+        if (nonNull(parallelism)) {
+            setParallelism(parallelism);
+        }
+        setStreaming(Boolean.TRUE.equals(streaming));
+        setIncrementalState(incrementalState);
+        if (nonNull(excludes)) {
+            setExcludes(excludes);
+        }
+        setParallelMerge(Boolean.TRUE.equals(parallelMerge));
+        setSingleWalk(Boolean.TRUE.equals(singleWalk));
     }
 
     @Override
     public void parseFiles(List<File> files) {
         requireNonNull(files, "Parameter 'files' must not be NULL.");
 
+        if (nonNull(incrementalState)) {
+            files = selectChangedFiles(files);
+        }
+
         log.info("Start parsing {} files.", files.size());
         log.info(SEPARATOR);
 
-        List<SourceParserResult> parserResults = executeParser(files);
-
-        if (!listeners.isEmpty()) {
-            listeners.forEach(listener -> executeListener(parserResults, listener));
+        if (streaming) {
+            executeStreaming(files);
+            JavaParserCache.clearIfExceeded();
+        } else {
+            List<SourceParserResult> parserResults = executeParser(files);
+            JavaParserCache.clearIfExceeded();
+
+            if (singleWalk && listeners.size() > 1) {
+                executeListeners(parserResults);
+            } else if (!listeners.isEmpty()) {
+                listeners.forEach(listener -> executeListener(parserResults, listener));
+            }
+            parserResults.forEach(this::recordFileState);
         }
+        discardPendingFileStates();
+
+        SymbolTableStatistics statistics = application.getSymbolTable().getStatistics();
+        log.info("Symbol table contains {} symbols, hit rate {}.", statistics.getSymbols(), String.format("%.2f", statistics.getHitRate()));
     }
 
     @Override
@@ -75,7 +122,8 @@ public class JavaSourceParser extends SourceParserBase {
 
     @Override
     public void initListeners(String revisionId) {
-        addListener(new JavaStructureListener(revisionId));
+        // The application is always a JavaApplication, see constructor
+        addListener(new JavaStructureListener(revisionId, (JavaApplication) application));
     }
 
     @Override
@@ -86,23 +134,68 @@ public class JavaSourceParser extends SourceParserBase {
         SourceParserResult parserResult = SourceParserResult.builder()
                 .parseTree(parser.compilationUnit())
                 .sourceName(fileName)
+                .predictionMode(mode)
+                .tokenStream(parser.getTokenStream())
                 .build();
 
-        log.info("Executed [{} with mode {} on file {} of {}] -> {}", this.getClass().getSimpleName(), mode, countFiles, numberOfFiles, fileName);
-
         return parserResult;
     }
 
+    @Override
+    protected Class<? extends ParseTreeListener> getBaseListenerClass() {
+        return JavaParserBaseListener.class;
+    }
+
     // #################################################################################################################
     // Private methods
 
+    /**
+     * Checks that the java listeners specified by {@code listeners} were created with the specified {@code application},
+     * otherwise they would write their components into another application than the parser merges them into.
+     *
+     * @param application the application of the parser
+     * @param listeners   the listeners, may be NULL
+     * @return the application
+     * @throws IllegalArgumentException if a listener was created with another application
+     */
+    private static JavaApplication requireSameApplication(JavaApplication application, List<ListenerBase> listeners) {
+        if (nonNull(listeners)) {
+            for (ListenerBase listener : listeners) {
+                if (listener instanceof JavaListenerBase javaListener && javaListener.getApplication() != application) {
+                    throw new IllegalArgumentException("Listener " + listener.getClass().getSimpleName()
+                            + " was created with another application than the parser.");
+                }
+            }
+        }
+        return application;
+    }
+
     private JavaParser buildParser(File file, PredictionMode mode) throws IOException {
-        JavaLexer lexer = new JavaLexer(CharStreams.fromFileName(file.getAbsolutePath()));
+        return buildParser(CharStreams.fromFileName(file.getAbsolutePath()), mode);
+    }
+
+    /**
+     * Creates a parser for the specified {@code input} using the DFA cache managed by {@link JavaParserCache}.
+     *
+     * @param input the source code
+     * @param mode  the prediction mode to be used
+     * @return the parser
+     */
+    static JavaParser buildParser(CharStream input, PredictionMode mode) {
+        JavaLexer lexer = new JavaLexer(input);
         lexer.removeErrorListeners();
         lexer.addErrorListener(new SyntaxErrorListener());
 
         JavaParser parser = new JavaParser(new CommonTokenStream(lexer));
-        parser.setErrorHandler(new BailErrorStrategy());
+        JavaParserCache.install(lexer, parser);
+        parser.removeErrorListeners();
+        if (PredictionMode.SLL.equals(mode)) {
+            // Fail fast, the file is parsed again with full LL if SLL is not sufficient
+            parser.setErrorHandler(new BailErrorStrategy());
+        } else {
+            parser.addErrorListener(new SyntaxErrorListener());
+            parser.setErrorHandler(new DefaultErrorStrategy());
+        }
         parser.getInterpreter().setPredictionMode(mode);
 
         return parser;
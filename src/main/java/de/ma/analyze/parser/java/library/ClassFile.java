@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.java.library;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code ClassFile} contains the parts of a class file needed to build a library model, the code is never read.
+ *
+ * @author Martin Absmeier
+ */
+@Data
+class ClassFile {
+    /** The internal name of the class (e.g. java/util/Map$Entry) */
+    private final String name;
+    /** The access flags of the class, for member classes the flags of the inner class entry */
+    private int access;
+    /** The internal name of the super class or NULL for java/lang/Object and modules */
+    private String superName;
+    /** The internal names of the directly implemented or extended interfaces */
+    private final List<String> interfaces = new ArrayList<>();
+    private final List<Member> fields = new ArrayList<>();
+    private final List<Member> methods = new ArrayList<>();
+    /** The internal name of the declaring class or NULL if the class is a top level class */
+    private String outerName;
+    /** The simple name of a member class */
+    private String simpleName;
+    /** True if the class is a local or anonymous class, they are not visible outside its declaring code */
+    private boolean localOrAnonymous;
+
+    /**
+     * A field or method of a class.
+     */
+    @Data
+    static class Member {
+        private final String name;
+        private final String descriptor;
+        private final int access;
+    }
+}
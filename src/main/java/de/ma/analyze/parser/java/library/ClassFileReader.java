@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.java.library;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * {@code ClassFileReader} reads the declarations of a class file as specified in chapter 4 of the Java Virtual Machine
+ * Specification in a single pass. The class is not loaded, only the constant pool entries referenced by declarations
+ * are kept and the code and all other attributes are skipped.
+ *
+ * @author Martin Absmeier
+ */
+final class ClassFileReader {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PROTECTED = 0x0004;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_BRIDGE = 0x0040;
+    static final int ACC_NATIVE = 0x0100;
+    static final int ACC_INTERFACE = 0x0200;
+    static final int ACC_ABSTRACT = 0x0400;
+    static final int ACC_SYNTHETIC = 0x1000;
+    static final int ACC_ENUM = 0x4000;
+    static final int ACC_MODULE = 0x8000;
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String INNER_CLASSES = "InnerClasses";
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    /**
+     * Reads the class file from the specified {@code inputStream}, the stream is not closed.
+     *
+     * @param inputStream the input stream positioned at the beginning of the class file
+     * @return the declarations of the class file
+     * @throws IOException if an I/O error occurs or the stream does not contain a class file
+     */
+    static ClassFile read(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Stream does not contain a class file.");
+        }
+        // Minor and major version
+        input.skipNBytes(4);
+
+        int count = input.readUnsignedShort();
+        String[] utf8 = new String[count];
+        int[] classes = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = input.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8 -> utf8[i] = input.readUTF();
+                case CONSTANT_CLASS -> classes[i] = input.readUnsignedShort();
+                case CONSTANT_STRING, CONSTANT_METHOD_TYPE, CONSTANT_MODULE, CONSTANT_PACKAGE -> input.skipNBytes(2);
+                case CONSTANT_METHOD_HANDLE -> input.skipNBytes(3);
+                case CONSTANT_INTEGER, CONSTANT_FLOAT, CONSTANT_FIELDREF, CONSTANT_METHODREF,
+                     CONSTANT_INTERFACE_METHODREF, CONSTANT_NAME_AND_TYPE, CONSTANT_DYNAMIC,
+                     CONSTANT_INVOKE_DYNAMIC -> input.skipNBytes(4);
+                case CONSTANT_LONG, CONSTANT_DOUBLE -> {
+                    // Takes up two entries of the constant pool
+                    input.skipNBytes(8);
+                    i++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+        int access = input.readUnsignedShort();
+        ClassFile classFile = new ClassFile(utf8[classes[input.readUnsignedShort()]]);
+        classFile.setAccess(access);
+        int superClass = input.readUnsignedShort();
+        if (superClass != 0) {
+            classFile.setSuperName(utf8[classes[superClass]]);
+        }
+        int numberOfInterfaces = input.readUnsignedShort();
+        for (int i = 0; i < numberOfInterfaces; i++) {
+            classFile.getInterfaces().add(utf8[classes[input.readUnsignedShort()]]);
+        }
+
+        readMembers(input, utf8, classFile.getFields());
+        readMembers(input, utf8, classFile.getMethods());
+
+        int numberOfAttributes = input.readUnsignedShort();
+        for (int i = 0; i < numberOfAttributes; i++) {
+            String attributeName = utf8[input.readUnsignedShort()];
+            long length = Integer.toUnsignedLong(input.readInt());
+            if (INNER_CLASSES.equals(attributeName)) {
+                readInnerClasses(input, utf8, classes, classFile);
+            } else {
+                input.skipNBytes(length);
+            }
+        }
+
+        return classFile;
+    }
+
+    // #################################################################################################################
+
+    private static void readMembers(DataInputStream input, String[] utf8, List<ClassFile.Member> members) throws IOException {
+        int count = input.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            int access = input.readUnsignedShort();
+            String name = utf8[input.readUnsignedShort()];
+            String descriptor = utf8[input.readUnsignedShort()];
+            members.add(new ClassFile.Member(name, descriptor, access));
+            skipAttributes(input);
+        }
+    }
+
+    /**
+     * Reads the inner class entry of the class itself, it contains the declaring class and the real access flags.
+     */
+    private static void readInnerClasses(DataInputStream input, String[] utf8, int[] classes, ClassFile classFile) throws IOException {
+        int count = input.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            int innerClass = input.readUnsignedShort();
+            int outerClass = input.readUnsignedShort();
+            int innerName = input.readUnsignedShort();
+            int access = input.readUnsignedShort();
+            if (classFile.getName().equals(utf8[classes[innerClass]])) {
+                classFile.setLocalOrAnonymous(outerClass == 0 || innerName == 0);
+                if (!classFile.isLocalOrAnonymous()) {
+                    classFile.setOuterName(utf8[classes[outerClass]]);
+                    classFile.setSimpleName(utf8[innerName]);
+                    classFile.setAccess(access);
+                }
+            }
+        }
+    }
+
+    private static void skipAttributes(DataInputStream input) throws IOException {
+        int count = input.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            // Name index followed by the length of the attribute
+            input.skipNBytes(2);
+            input.skipNBytes(Integer.toUnsignedLong(input.readInt()));
+        }
+    }
+
+    private ClassFileReader() {
+        // We do not want an instance
+    }
+}
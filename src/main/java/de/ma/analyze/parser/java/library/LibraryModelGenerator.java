@@ -0,0 +1,391 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.java.library;
+
+import de.ma.analyze.common.AnalyzeConstants.JAVA;
+import de.ma.analyze.common.checksum.Checksums;
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.ComponentAttribute;
+import de.ma.analyze.common.component.type.ComponentAttributeType;
+import de.ma.analyze.common.component.type.ComponentType;
+import de.ma.analyze.common.exception.ParserException;
+import de.ma.analyze.common.util.FileUtils;
+import de.ma.analyze.persistence.LibraryModel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleFinder;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import static de.ma.analyze.parser.java.library.ClassFileReader.*;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code LibraryModelGenerator} generates library models from compiled jars and the runtime image of the running JDK.
+ * <br>
+ * The class files are read with {@link ClassFileReader} without loading them. The public and protected types with their
+ * public and protected constructors, methods and fields are added to a LIB_ROOT component tree, the packages are split
+ * into one component per segment like the {@link de.ma.analyze.parser.java.listener.JavaStructureListener} does.
+ * Every model is written as {@link LibraryModel} to the cache directory, the file name is the checksum of the jar, so
+ * each jar is processed only once. The returned libraries are opened from the cache and loaded lazily.
+ *
+ * @author Martin Absmeier
+ */
+@Log4j2
+public class LibraryModelGenerator {
+
+    /** The extension of the library models in the cache directory */
+    public static final String MODEL_EXTENSION = ".model";
+
+    private static final String CLASS_EXTENSION = ".class";
+    private static final String JRT_MODULES = "/modules";
+    private static final String CONSTRUCTOR = "<init>";
+    private static final String STATIC_INITIALIZER = "<clinit>";
+    private static final char INTERNAL_DELIMITER = '/';
+
+    private final File cacheDirectory;
+    @Getter
+    private final int parallelism;
+
+    /**
+     * Creates a new instance of {@code LibraryModelGenerator} class.
+     *
+     * @param cacheDirectory the directory where the library models are cached
+     * @param parallelism    the number of archives processed in parallel, defaults to the number of processors
+     */
+    @Builder
+    public LibraryModelGenerator(File cacheDirectory, Integer parallelism) {
+        requireNonNull(cacheDirectory, "Parameter 'cacheDirectory' must not be NULL.");
+        if (nonNull(parallelism) && parallelism < 1) {
+            throw new IllegalArgumentException("Parameter 'parallelism' must be greater than 0.");
+        }
+        if (!cacheDirectory.isDirectory() && !cacheDirectory.mkdirs()) {
+            throw new ParserException("Can not create cache directory " + cacheDirectory.getAbsolutePath());
+        }
+
+        this.cacheDirectory = cacheDirectory;
+        this.parallelism = isNull(parallelism) ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    /**
+     * Generates the library models of the specified {@code archives} in parallel.
+     *
+     * @param archives the jar files
+     * @return the libraries in the order of the archives
+     * @throws ParserException if an archive can not be read
+     */
+    public List<Component> generate(List<File> archives) {
+        requireNonNull(archives, "Parameter 'archives' must not be NULL.");
+        if (archives.isEmpty()) {
+            return List.of();
+        }
+
+        List<Callable<Component>> tasks = new ArrayList<>(archives.size());
+        archives.forEach(archive -> tasks.add(() -> generate(archive)));
+
+        List<Component> libraries = new ArrayList<>(archives.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, archives.size()))) {
+            for (Future<Component> future : executor.invokeAll(tasks)) {
+                libraries.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ParserException("Generating library models was interrupted.", ex);
+        } catch (ExecutionException ex) {
+            throw new ParserException("Can not generate library models due to: " + ex.getCause().getMessage(), ex.getCause());
+        }
+
+        return libraries;
+    }
+
+    /**
+     * Generates the library model of the specified {@code archive} if it is not cached yet.
+     *
+     * @param archive the jar file
+     * @return the library
+     * @throws ParserException if the archive can not be read
+     */
+    public Component generate(File archive) {
+        requireNonNull(archive, "Parameter 'archive' must not be NULL.");
+
+        String checksum = FileUtils.calculateChecksum(Checksums.DEFAULT_ALGORITHM, archive);
+        if (checksum.isEmpty()) {
+            throw new ParserException("Can not read archive " + archive.getAbsolutePath());
+        }
+
+        return cached(checksum, () -> {
+            List<ClassFile> classFiles = new ArrayList<>();
+            try (JarFile jarFile = new JarFile(archive)) {
+                for (JarEntry entry : jarFile.stream().toList()) {
+                    if (isClassFile(entry.getName())) {
+                        try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                            classFiles.add(ClassFileReader.read(inputStream));
+                        }
+                    }
+                }
+            }
+            return buildLibrary(archive.getName(), classFiles, null);
+        });
+    }
+
+    /**
+     * Generates the library model of the runtime image of the running JDK if it is not cached yet. Only the packages
+     * exported by the system modules are contained.
+     *
+     * @return the library
+     * @throws ParserException if the runtime image can not be read
+     */
+    public Component generateJdk() {
+        String name = "jdk-" + Runtime.version();
+
+        return cached(name.replaceAll("[^A-Za-z0-9._-]", "_"), () -> {
+            Set<String> exportedPackages = new HashSet<>();
+            ModuleFinder.ofSystem().findAll().forEach(module -> module.descriptor().exports().stream()
+                    .filter(export -> !export.isQualified())
+                    .map(ModuleDescriptor.Exports::source)
+                    .forEach(exportedPackages::add));
+
+            List<ClassFile> classFiles = new ArrayList<>();
+            FileSystem jrt = FileSystems.getFileSystem(URI.create("jrt:/"));
+            try (Stream<Path> paths = Files.walk(jrt.getPath(JRT_MODULES))) {
+                for (Path path : paths.filter(path -> isClassFile(path.toString())).toList()) {
+                    try (InputStream inputStream = Files.newInputStream(path)) {
+                        classFiles.add(ClassFileReader.read(inputStream));
+                    }
+                }
+            }
+            return buildLibrary(name, classFiles, exportedPackages);
+        });
+    }
+
+    // #################################################################################################################
+
+    /**
+     * Opens the library model specified by {@code key} from the cache, it is generated and written first if necessary.
+     * The model is written to a temporary file and moved, so concurrent analyses never see a partial model. The
+     * temporary file is deleted if the model can not be written.
+     */
+    private Component cached(String key, Callable<Component> generator) {
+        File model = new File(cacheDirectory, key + MODEL_EXTENSION);
+        if (!model.isFile()) {
+            File temporary = null;
+            try {
+                long start = System.currentTimeMillis();
+                Component library = generator.call();
+                temporary = File.createTempFile(key, MODEL_EXTENSION, cacheDirectory);
+                LibraryModel.write(library, temporary);
+                Files.move(temporary.toPath(), model.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                log.info("Generated library model {} in {} ms.", library.getValue(), System.currentTimeMillis() - start);
+            } catch (ParserException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new ParserException("Can not generate library model " + key + " due to: " + ex.getMessage(), ex);
+            } finally {
+                // The temporary file is only left if writing or moving failed
+                if (nonNull(temporary) && temporary.exists() && !temporary.delete()) {
+                    log.warn("Can not delete temporary library model {}", temporary.getAbsolutePath());
+                }
+            }
+        }
+
+        return LibraryModel.open(model);
+    }
+
+    /**
+     * Builds the LIB_ROOT component tree of the specified {@code classFiles}.
+     *
+     * @param name             the name of the library
+     * @param classFiles       the class files
+     * @param exportedPackages the packages (e.g. java.util) to be contained or NULL to contain all packages
+     * @return the library
+     */
+    private Component buildLibrary(String name, List<ClassFile> classFiles, Set<String> exportedPackages) {
+        Component library = Component.builder().type(ComponentType.LIB_ROOT).value(name).build();
+        Map<String, Component> packages = new HashMap<>();
+        Map<String, Component> types = new HashMap<>();
+
+        // A declaring class always sorts before its member classes
+        classFiles.sort(Comparator.comparing(ClassFile::getName));
+        for (ClassFile classFile : classFiles) {
+            if (classFile.isLocalOrAnonymous() || (classFile.getAccess() & ACC_SYNTHETIC) != 0 || !isVisible(classFile.getAccess())) {
+                continue;
+            }
+
+            Component parent;
+            String simpleName;
+            if (isNull(classFile.getOuterName())) {
+                String internalName = classFile.getName();
+                int idx = internalName.lastIndexOf(INTERNAL_DELIMITER);
+                String packageName = idx < 0 ? JAVA.DEFAULT_PACKAGE : internalName.substring(0, idx).replace(INTERNAL_DELIMITER, '.');
+                if (nonNull(exportedPackages) && !exportedPackages.contains(packageName)) {
+                    continue;
+                }
+                parent = packages.computeIfAbsent(packageName, key -> createPackage(library, key));
+                simpleName = internalName.substring(idx + 1);
+            } else {
+                // The declaring class is not visible, so its member classes are not either
+                parent = types.get(classFile.getOuterName());
+                simpleName = classFile.getSimpleName();
+            }
+            if (isNull(parent)) {
+                continue;
+            }
+
+            Component type = createType(classFile, simpleName);
+            parent.addChild(type);
+            types.put(classFile.getName(), type);
+        }
+
+        return library;
+    }
+
+    private Component createPackage(Component library, String packageName) {
+        Component current = library;
+        int startIdx = 0;
+        while (startIdx <= packageName.length()) {
+            int stopIdx = packageName.indexOf('.', startIdx);
+            if (stopIdx < 0) {
+                stopIdx = packageName.length();
+            }
+            String segment = packageName.substring(startIdx, stopIdx);
+            Component pckg = current.findChildByCoordinate(segment);
+            if (isNull(pckg)) {
+                pckg = Component.builder().type(ComponentType.JAVA_PACKAGE).value(segment).build();
+                current.addChild(pckg);
+            }
+            current = pckg;
+            startIdx = stopIdx + 1;
+        }
+        return current;
+    }
+
+    private Component createType(ClassFile classFile, String simpleName) {
+        int access = classFile.getAccess();
+        ComponentType componentType;
+        if ((access & ACC_ENUM) != 0) {
+            componentType = ComponentType.JAVA_ENUM;
+        } else if ((access & ACC_INTERFACE) != 0) {
+            componentType = ComponentType.JAVA_INTERFACE;
+        } else {
+            componentType = ComponentType.JAVA_CLASS;
+        }
+
+        Component type = Component.builder().type(componentType).value(simpleName).build();
+        addModifiers(type, access & ~ACC_INTERFACE);
+        boolean isInterface = ComponentType.JAVA_INTERFACE.equals(componentType);
+        if (nonNull(classFile.getSuperName()) && !isInterface && !componentType.equals(ComponentType.JAVA_ENUM)
+                && !"java/lang/Object".equals(classFile.getSuperName())) {
+            type.addAttribute(createAttribute(ComponentAttributeType.JAVA_EXTENDS, toQualifiedName(classFile.getSuperName())));
+        }
+        classFile.getInterfaces().forEach(name -> type.addAttribute(createAttribute(
+                isInterface ? ComponentAttributeType.JAVA_EXTENDS : ComponentAttributeType.JAVA_IMPLEMENTS, toQualifiedName(name))));
+
+        for (ClassFile.Member field : classFile.getFields()) {
+            if (isVisibleMember(field.getAccess())) {
+                boolean isEnumConstant = (field.getAccess() & ACC_ENUM) != 0;
+                Component component = Component.builder()
+                        .type(isEnumConstant ? ComponentType.JAVA_ENUM_CONSTANT : ComponentType.JAVA_FIELD)
+                        .value(field.getName())
+                        .build();
+                if (!isEnumConstant) {
+                    addModifiers(component, field.getAccess());
+                }
+                type.addChild(component);
+            }
+        }
+        for (ClassFile.Member method : classFile.getMethods()) {
+            if (isVisibleMember(method.getAccess()) && (method.getAccess() & ACC_BRIDGE) == 0 && !STATIC_INITIALIZER.equals(method.getName())) {
+                boolean isConstructor = CONSTRUCTOR.equals(method.getName());
+                Component component = Component.builder()
+                        .type(isConstructor ? ComponentType.JAVA_CONSTRUCTOR : ComponentType.JAVA_METHOD)
+                        .value(isConstructor ? simpleName : method.getName())
+                        .build();
+                addModifiers(component, method.getAccess());
+                type.addChild(component);
+            }
+        }
+
+        return type;
+    }
+
+    private void addModifiers(Component component, int access) {
+        if ((access & ACC_PUBLIC) != 0) {
+            component.addAttribute(createAttribute(ComponentAttributeType.JAVA_MODIFIER, JAVA.MODIFIER_PUBLIC));
+        }
+        if ((access & ACC_PROTECTED) != 0) {
+            component.addAttribute(createAttribute(ComponentAttributeType.JAVA_MODIFIER, JAVA.MODIFIER_PROTECTED));
+        }
+        if ((access & ACC_STATIC) != 0) {
+            component.addAttribute(createAttribute(ComponentAttributeType.JAVA_MODIFIER, JAVA.MODIFIER_STATIC));
+        }
+        if ((access & ACC_FINAL) != 0) {
+            component.addAttribute(createAttribute(ComponentAttributeType.JAVA_MODIFIER, JAVA.MODIFIER_FINAL));
+        }
+        if ((access & ACC_ABSTRACT) != 0) {
+            component.addAttribute(createAttribute(ComponentAttributeType.JAVA_MODIFIER, JAVA.MODIFIER_ABSTRACT));
+        }
+        if ((access & ACC_NATIVE) != 0) {
+            component.addAttribute(createAttribute(ComponentAttributeType.JAVA_MODIFIER, JAVA.MODIFIER_NATIVE));
+        }
+    }
+
+    private ComponentAttribute createAttribute(ComponentAttributeType type, String value) {
+        return ComponentAttribute.builder().type(type).value(value).build();
+    }
+
+    private boolean isClassFile(String name) {
+        return name.endsWith(CLASS_EXTENSION) && !name.endsWith("module-info.class") && !name.endsWith("package-info.class")
+                && !name.startsWith("META-INF/");
+    }
+
+    private boolean isVisible(int access) {
+        return (access & (ACC_PUBLIC | ACC_PROTECTED)) != 0 && (access & ACC_MODULE) == 0;
+    }
+
+    private boolean isVisibleMember(int access) {
+        return (access & (ACC_PUBLIC | ACC_PROTECTED)) != 0 && (access & ACC_SYNTHETIC) == 0;
+    }
+
+    private String toQualifiedName(String internalName) {
+        return internalName.replace(INTERNAL_DELIMITER, '.').replace('$', '.');
+    }
+}
@@ -16,6 +16,8 @@
 package de.ma.analyze.parser.java.listener;
 
 import de.ma.analyze.common.AnalyzeConstants.JAVA;
+import de.ma.analyze.common.checksum.ChecksumAlgorithm;
+import de.ma.analyze.common.checksum.Checksums;
 import de.ma.analyze.common.component.Component;
 import de.ma.analyze.common.component.ComponentAttribute;
 import de.ma.analyze.common.component.type.ComponentAttributeType;
@@ -28,6 +30,8 @@ import de.ma.analyze.parser.java.JavaParsingContext;
 import lombok.extern.log4j.Log4j2;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.misc.Interval;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
 import java.io.File;
@@ -61,19 +65,22 @@ public abstract class JavaListenerBase extends JavaParserBaseListener implements
     protected JavaApplication application;
     protected JavaParsingContext parsingContext;
     protected String sourceName;
+    protected TokenStream tokenStream;
     private final List<String> collectedModifiers;
 
     /**
      * Creates a new instance of {@code JavaListenerBase} class.
      *
      * @param revisionId     the unique id of the source code
+     * @param application    the application of the analysis the listener belongs to
      * @param parsingContext the parsing context
      */
-    protected JavaListenerBase(String revisionId, JavaParsingContext parsingContext) {
+    protected JavaListenerBase(String revisionId, JavaApplication application, JavaParsingContext parsingContext) {
         requireNonNull(revisionId, "Parameter 'revisionId' must not be NULL.");
+        requireNonNull(application, "Parameter 'application' must not be NULL.");
         requireNonNull(parsingContext, "Parameter 'parsingContext' must not be NULL.");
 
-        this.application = JavaApplication.getInstance();
+        this.application = application;
         this.parsingContext = parsingContext;
         this.collectedModifiers = new ArrayList<>();
         initParsingContext();
@@ -191,6 +198,11 @@ public abstract class JavaListenerBase extends JavaParserBaseListener implements
         setDefaultPackageIfNecessary();
 
         Component newComponent = createComponent(componentType, identifier.getText());
+        // The checksum of the body must not change the identity of the type, otherwise every edit would create a new one
+        String bodyChecksum = calculateChecksum(ctx);
+        if (nonNull(bodyChecksum)) {
+            newComponent.addAttribute(ComponentAttribute.builder().type(ComponentAttributeType.BODY_CHECKSUM).value(bodyChecksum).build());
+        }
         applyTypeDeclarationAttributes(newComponent, ctx);
 
         if (heritage != null && !heritage.isEmpty()) {
@@ -261,6 +273,7 @@ public abstract class JavaListenerBase extends JavaParserBaseListener implements
     @Override
     public void enterConstructorDeclaration(JavaParser.ConstructorDeclarationContext ctx) {
         Component newConstructor = createComponent(ComponentType.JAVA_CONSTRUCTOR, ctx.identifier().getText());
+        newConstructor.setChecksum(calculateChecksum(ctx));
 
         addCompilationUnitAttribute(newConstructor);
         addSourcePositionToComponentIfNotContained(newConstructor, ctx);
@@ -306,6 +319,11 @@ public abstract class JavaListenerBase extends JavaParserBaseListener implements
         this.sourceName = sourceName;
     }
 
+    @Override
+    public void setTokenStream(TokenStream tokenStream) {
+        this.tokenStream = tokenStream;
+    }
+
     @Override
     public void reset() {
         parsingContext.reset();
@@ -313,6 +331,20 @@ public abstract class JavaListenerBase extends JavaParserBaseListener implements
         collectedModifiers.clear();
     }
 
+    /**
+     * Return the application of the analysis the listener belongs to.
+     *
+     * @return the application
+     */
+    public JavaApplication getApplication() {
+        return application;
+    }
+
+    @Override
+    public ChecksumAlgorithm getChecksumAlgorithm() {
+        return application.getChecksumAlgorithm();
+    }
+
     // #################################################################################################################
 
     /**
@@ -323,7 +355,7 @@ public abstract class JavaListenerBase extends JavaParserBaseListener implements
      * @return the {@code ComponentNode}
      */
     protected Component createComponent(ComponentType type, String value) {
-        return Component.builder().type(type).value(value).build();
+        return Component.builder().type(type).value(application.getSymbolTable().intern(value)).build();
     }
 
     /**
@@ -334,7 +366,29 @@ public abstract class JavaListenerBase extends JavaParserBaseListener implements
      * @return the {@code ComponentAttribute}
      */
     protected ComponentAttribute createAttribute(ComponentAttributeType type, String value) {
-        return ComponentAttribute.builder().type(type).value(value).build();
+        return ComponentAttribute.builder().type(type).value(application.getSymbolTable().intern(value)).build();
+    }
+
+    /**
+     * Calculate the checksum of the source code of the specified {@code ctx}.<br>
+     * Only the tokens of the default channel within the source interval of the rule are hashed, so comments and
+     * whitespace do not change the checksum. The characters are read directly from the input of the lexer, no text of
+     * the rule is created.
+     *
+     * @param ctx the context (e.g. of a method declaration)
+     * @return the checksum or NULL if the rule has no tokens
+     * @throws IllegalStateException if the token stream is not set
+     */
+    protected String calculateChecksum(ParserRuleContext ctx) {
+        if (isNull(tokenStream)) {
+            throw new IllegalStateException("The token stream of " + sourceName + " is not set.");
+        }
+        Interval interval = ctx.getSourceInterval();
+        if (interval.length() <= 0) {
+            return null;
+        }
+
+        return Checksums.calculate(getChecksumAlgorithm(), tokenStream, interval.a, interval.b);
     }
 
     /**
@@ -355,11 +409,9 @@ public abstract class JavaListenerBase extends JavaParserBaseListener implements
      */
     protected void addSourcePositionToComponentIfNotContained(Component component, ParserRuleContext ctx) {
         Token start = ctx.getStart();
-        String line = String.valueOf(start.getLine());
-        String column = String.valueOf(start.getCharPositionInLine());
 
-        component.addAttribute(createAttribute(ComponentAttributeType.LINE, line));
-        component.addAttribute(createAttribute(ComponentAttributeType.COLUMN, column));
+        component.addAttribute(ComponentAttributeType.LINE, start.getLine());
+        component.addAttribute(ComponentAttributeType.COLUMN, start.getCharPositionInLine());
     }
 
     /**
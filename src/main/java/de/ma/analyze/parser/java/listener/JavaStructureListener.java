@@ -19,6 +19,7 @@ import de.ma.analyze.common.AnalyzeConstants.JAVA;
 import de.ma.analyze.common.component.Component;
 import de.ma.analyze.common.component.type.ComponentAttributeType;
 import de.ma.analyze.common.component.type.ComponentType;
+import de.ma.analyze.parser.java.JavaApplication;
 import de.ma.analyze.parser.java.JavaParser;
 import de.ma.analyze.parser.java.JavaParsingContext;
 
@@ -35,10 +36,11 @@ public class JavaStructureListener extends JavaListenerBase {
     /**
      * Creates a new instance of {@code JavaListenerBase} class.
      *
-     * @param revisionId the unique id of the source code
+     * @param revisionId  the unique id of the source code
+     * @param application the application of the analysis the listener belongs to
      */
-    public JavaStructureListener(String revisionId) {
-        super(revisionId, JavaParsingContext.builder().revisionId(revisionId).build());
+    public JavaStructureListener(String revisionId, JavaApplication application) {
+        super(revisionId, application, JavaParsingContext.builder().revisionId(revisionId).build());
     }
 
     // #################################################################################################################
@@ -49,6 +51,7 @@ public class JavaStructureListener extends JavaListenerBase {
         JavaParser.InterfaceCommonBodyDeclarationContext methodBody = ctx.interfaceCommonBodyDeclaration();
 
         Component interfaceMethod = createComponent(ComponentType.JAVA_METHOD, methodBody.identifier().getText());
+        interfaceMethod.setChecksum(calculateChecksum(ctx));
         addSourcePositionToComponentIfNotContained(interfaceMethod, ctx);
         addInterfaceModifiers(interfaceMethod, ctx.interfaceMethodModifier());
         addToCurrentComponentIfNotContained(interfaceMethod);
@@ -64,6 +67,7 @@ public class JavaStructureListener extends JavaListenerBase {
     @Override
     public void enterMethodDeclaration(JavaParser.MethodDeclarationContext ctx) {
         Component classMethod = createComponent(ComponentType.JAVA_METHOD, ctx.identifier().getText());
+        classMethod.setChecksum(calculateChecksum(ctx));
 
         addSourcePositionToComponentIfNotContained(classMethod, ctx);
         addToCurrentComponentIfNotContained(classMethod);
@@ -99,6 +103,7 @@ public class JavaStructureListener extends JavaListenerBase {
     @Override
     public void enterFieldDeclaration(JavaParser.FieldDeclarationContext ctx) {
         Component field = createComponent(ComponentType.JAVA_FIELD, ctx.variableDeclarators().getText());
+        field.setChecksum(calculateChecksum(ctx));
 
         addSourcePositionToComponentIfNotContained(field, ctx);
         addToCurrentComponentIfNotContained(field);
@@ -114,6 +119,7 @@ public class JavaStructureListener extends JavaListenerBase {
     @Override
     public void enterConstantDeclarator(JavaParser.ConstantDeclaratorContext ctx) {
         Component constant = createComponent(ComponentType.JAVA_FIELD, ctx.getText());
+        constant.setChecksum(calculateChecksum(ctx));
 
         addSourcePositionToComponentIfNotContained(constant, ctx);
         addToCurrentComponentIfNotContained(constant);
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.persistence;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.ComponentAttribute;
+import lombok.extern.log4j.Log4j2;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code ComponentCopyLoader} exports component trees with their attributes as snapshots through the
+ * {@code COPY ... FROM STDIN} protocol of PostgreSQL in CSV format.<br>
+ * The tree is traversed twice, once for the components and once for the attributes, because only one COPY can be
+ * active per connection. The rows are streamed in chunks of {@link #CHUNK_SIZE} characters while the tree is
+ * traversed, no intermediate lists are built. Other databases (e.g. H2 in tests) fall back to the batched inserts of
+ * {@link ComponentRepository}.
+ *
+ * @author Martin Absmeier
+ */
+@Log4j2
+@Repository
+public class ComponentCopyLoader {
+
+    /** The number of characters buffered before they are sent to the database */
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final String COPY_COMPONENTS = "COPY analyze_component "
+            + "(snapshot_id, id, parent_id, component_type, component_value, checksum) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_ATTRIBUTES = "COPY analyze_component_attribute "
+            + "(snapshot_id, component_id, attribute_position, attribute_type, attribute_value) FROM STDIN WITH (FORMAT csv)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ComponentRepository componentRepository;
+
+    /**
+     * Creates a new instance of {@code ComponentCopyLoader} class.
+     *
+     * @param jdbcTemplate        the jdbc template
+     * @param componentRepository the repository used if the database is not PostgreSQL
+     */
+    public ComponentCopyLoader(JdbcTemplate jdbcTemplate, ComponentRepository componentRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.componentRepository = componentRepository;
+    }
+
+    /**
+     * Saves the specified {@code root} with all children and attributes as new snapshot.
+     *
+     * @param root       the root of the component tree (e.g. the APP_ROOT of an application or a LIB_ROOT)
+     * @param revisionId the unique id of the source code
+     * @return the id of the snapshot
+     */
+    @Transactional
+    public long copy(Component root, String revisionId) {
+        requireNonNull(root, "Parameter 'root' must not be NULL.");
+        requireNonNull(revisionId, "Parameter 'revisionId' must not be NULL.");
+
+        Boolean isPostgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class));
+        if (!Boolean.TRUE.equals(isPostgres)) {
+            log.debug("Database does not support COPY, fall back to batched inserts.");
+            return componentRepository.save(root, revisionId);
+        }
+
+        long snapshotId = componentRepository.createSnapshot(revisionId);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            long components = copyComponents(copyManager, root, snapshotId);
+            long attributes = copyAttributes(copyManager, root, snapshotId);
+
+            log.info("Copied snapshot {} of revision {} with {} components and {} attributes.", snapshotId, revisionId, components, attributes);
+            return null;
+        });
+
+        return snapshotId;
+    }
+
+    // #################################################################################################################
+
+    private long copyComponents(CopyManager copyManager, Component root, long snapshotId) throws SQLException {
+        CopyIn copyIn = copyManager.copyIn(COPY_COMPONENTS);
+        try {
+            StringBuilder buffer = new StringBuilder(CHUNK_SIZE + 1024);
+            long count = ComponentTraversal.traverse(root, (component, id, parentId) -> {
+                appendComponentRow(buffer, snapshotId, component, id, parentId);
+                writeIfFull(copyIn, buffer);
+            });
+            write(copyIn, buffer);
+            copyIn.endCopy();
+            return count;
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private long copyAttributes(CopyManager copyManager, Component root, long snapshotId) throws SQLException {
+        CopyIn copyIn = copyManager.copyIn(COPY_ATTRIBUTES);
+        try {
+            StringBuilder buffer = new StringBuilder(CHUNK_SIZE + 1024);
+            long[] count = new long[1];
+            ComponentTraversal.traverse(root, (component, id, parentId) -> {
+                List<ComponentAttribute> attributes = component.getAttributes();
+                for (int position = 0; position < attributes.size(); position++) {
+                    appendAttributeRow(buffer, snapshotId, id, position, attributes.get(position));
+                    count[0]++;
+                }
+                writeIfFull(copyIn, buffer);
+            });
+            write(copyIn, buffer);
+            copyIn.endCopy();
+            return count[0];
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Appends the CSV row of the specified {@code component} for the COPY of the components.
+     *
+     * @param buffer     the buffer
+     * @param snapshotId the id of the snapshot
+     * @param component  the component
+     * @param id         the id of the component
+     * @param parentId   the id of the parent or NULL if the component is the root
+     */
+    static void appendComponentRow(StringBuilder buffer, long snapshotId, Component component, long id, Long parentId) {
+        buffer.append(snapshotId).append(',').append(id).append(',');
+        if (nonNull(parentId)) {
+            buffer.append(parentId.longValue());
+        }
+        buffer.append(',').append(component.getType().name()).append(',');
+        appendQuoted(buffer, component.getValue());
+        buffer.append(',');
+        appendQuoted(buffer, component.getChecksum());
+        buffer.append('\n');
+    }
+
+    /**
+     * Appends the CSV row of the specified {@code attribute} for the COPY of the attributes.
+     *
+     * @param buffer      the buffer
+     * @param snapshotId  the id of the snapshot
+     * @param componentId the id of the component owning the attribute
+     * @param position    the position of the attribute in the attributes of the component
+     * @param attribute   the attribute
+     */
+    static void appendAttributeRow(StringBuilder buffer, long snapshotId, long componentId, int position, ComponentAttribute attribute) {
+        buffer.append(snapshotId).append(',').append(componentId).append(',').append(position).append(',')
+                .append(attribute.getType().name()).append(',');
+        appendQuoted(buffer, attribute.getValue());
+        buffer.append('\n');
+    }
+
+    /**
+     * Appends the specified {@code value} as quoted CSV value, an unquoted empty value is NULL.
+     *
+     * @param buffer the buffer
+     * @param value  the value
+     */
+    private static void appendQuoted(StringBuilder buffer, String value) {
+        if (isNull(value)) {
+            return;
+        }
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == '"') {
+                buffer.append('"');
+            }
+            buffer.append(character);
+        }
+        buffer.append('"');
+    }
+
+    private void writeIfFull(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() >= CHUNK_SIZE) {
+            write(copyIn, buffer);
+        }
+    }
+
+    private void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (!buffer.isEmpty()) {
+            byte[] bytes = buffer.toString().getBytes(DEFAULT.ENCODING);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.persistence;
+
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.ComponentAttribute;
+import de.ma.analyze.common.component.type.ComponentAttributeType;
+import de.ma.analyze.common.component.type.ComponentType;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code ComponentRepository} persists component trees with their attributes as snapshots.<br>
+ * The ids of the components are assigned by {@link ComponentTraversal} while the tree is traversed, so no sequence
+ * has to be queried and parents are always written before their children. The rows are written with JDBC batches of
+ * {@link #BATCH_SIZE}, for PostgreSQL add {@code reWriteBatchedInserts=true} to the JDBC url to turn each batch into
+ * multi-row inserts.
+ *
+ * @author Martin Absmeier
+ */
+@Log4j2
+@Repository
+public class ComponentRepository {
+
+    /** The number of rows sent to the database with one batch */
+    public static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_COMPONENT = "INSERT INTO analyze_component "
+            + "(snapshot_id, id, parent_id, component_type, component_value, checksum) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ATTRIBUTE = "INSERT INTO analyze_component_attribute "
+            + "(snapshot_id, component_id, attribute_position, attribute_type, attribute_value) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_COMPONENTS = "SELECT id, parent_id, component_type, component_value, checksum "
+            + "FROM analyze_component WHERE snapshot_id = ? ORDER BY id";
+    private static final String SELECT_ATTRIBUTES = "SELECT component_id, attribute_type, attribute_value "
+            + "FROM analyze_component_attribute WHERE snapshot_id = ? ORDER BY component_id, attribute_position";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpleJdbcInsert snapshotInsert;
+
+    /**
+     * Creates a new instance of {@code ComponentRepository} class.
+     *
+     * @param jdbcTemplate the jdbc template
+     */
+    public ComponentRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotInsert = new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName("analyze_snapshot")
+                .usingColumns("revision_id", "created_at")
+                .usingGeneratedKeyColumns("id");
+    }
+
+    /**
+     * Saves the specified {@code root} with all children and attributes as new snapshot.
+     *
+     * @param root       the root of the component tree (e.g. the APP_ROOT of an application or a LIB_ROOT)
+     * @param revisionId the unique id of the source code
+     * @return the id of the snapshot
+     */
+    @Transactional
+    public long save(Component root, String revisionId) {
+        requireNonNull(root, "Parameter 'root' must not be NULL.");
+        requireNonNull(revisionId, "Parameter 'revisionId' must not be NULL.");
+
+        long snapshotId = createSnapshot(revisionId);
+
+        List<Object[]> components = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> attributes = new ArrayList<>(BATCH_SIZE);
+        long count = ComponentTraversal.traverse(root, (component, id, parentId) -> {
+            components.add(new Object[]{snapshotId, id, parentId, component.getType().name(), component.getValue(), component.getChecksum()});
+            flushIfFull(INSERT_COMPONENT, components);
+
+            List<ComponentAttribute> componentAttributes = component.getAttributes();
+            for (int position = 0; position < componentAttributes.size(); position++) {
+                ComponentAttribute attribute = componentAttributes.get(position);
+                attributes.add(new Object[]{snapshotId, id, position, attribute.getType().name(), attribute.getValue()});
+                flushIfFull(INSERT_ATTRIBUTE, attributes);
+            }
+        });
+        flush(INSERT_COMPONENT, components);
+        flush(INSERT_ATTRIBUTE, attributes);
+
+        log.info("Saved snapshot {} of revision {} with {} components.", snapshotId, revisionId, count);
+        return snapshotId;
+    }
+
+    /**
+     * Creates a new snapshot specified by {@code revisionId} without components.
+     *
+     * @param revisionId the unique id of the source code
+     * @return the id of the snapshot
+     */
+    @Transactional
+    public long createSnapshot(String revisionId) {
+        requireNonNull(revisionId, "Parameter 'revisionId' must not be NULL.");
+
+        return snapshotInsert.executeAndReturnKey(Map.of(
+                "revision_id", revisionId,
+                "created_at", Timestamp.from(Instant.now()))).longValue();
+    }
+
+    /**
+     * Loads the component tree of the snapshot specified by {@code snapshotId}.
+     *
+     * @param snapshotId the id of the snapshot
+     * @return the root of the component tree or NULL if the snapshot does not exist
+     */
+    @Transactional(readOnly = true)
+    public Component load(long snapshotId) {
+        Map<Long, Component> components = new HashMap<>();
+        Component[] root = new Component[1];
+        jdbcTemplate.query(SELECT_COMPONENTS, resultSet -> {
+            Component component = Component.builder()
+                    .type(ComponentType.valueOf(resultSet.getString("component_type")))
+                    .value(resultSet.getString("component_value"))
+                    .build();
+            component.setChecksum(resultSet.getString("checksum"));
+            components.put(resultSet.getLong("id"), component);
+
+            long parentId = resultSet.getLong("parent_id");
+            if (resultSet.wasNull()) {
+                root[0] = component;
+            } else {
+                // Parents have lower ids than their children, so the parent is always loaded before
+                components.get(parentId).addChild(component);
+            }
+        }, snapshotId);
+
+        jdbcTemplate.query(SELECT_ATTRIBUTES, resultSet -> {
+            Component component = components.get(resultSet.getLong("component_id"));
+            if (nonNull(component)) {
+                component.addAttribute(ComponentAttribute.builder()
+                        .type(ComponentAttributeType.valueOf(resultSet.getString("attribute_type")))
+                        .value(resultSet.getString("attribute_value"))
+                        .build());
+            }
+        }, snapshotId);
+
+        if (isNull(root[0])) {
+            log.debug("Can not find snapshot {}", snapshotId);
+        }
+        return root[0];
+    }
+
+    /**
+     * Deletes the snapshot specified by {@code snapshotId} with all its components and attributes.
+     *
+     * @param snapshotId the id of the snapshot
+     */
+    @Transactional
+    public void delete(long snapshotId) {
+        jdbcTemplate.update("DELETE FROM analyze_component_attribute WHERE snapshot_id = ?", snapshotId);
+        jdbcTemplate.update("DELETE FROM analyze_component WHERE snapshot_id = ?", snapshotId);
+        jdbcTemplate.update("DELETE FROM analyze_snapshot WHERE id = ?", snapshotId);
+    }
+
+    // #################################################################################################################
+
+    private void flushIfFull(String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH_SIZE) {
+            flush(sql, rows);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
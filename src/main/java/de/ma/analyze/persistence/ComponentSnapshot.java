@@ -0,0 +1,330 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.persistence;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.ComponentAttribute;
+import de.ma.analyze.common.component.type.ComponentAttributeType;
+import de.ma.analyze.common.component.type.ComponentType;
+import de.ma.analyze.common.exception.ParserException;
+import de.ma.analyze.parser.common.ApplicationBase;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static de.ma.analyze.common.component.type.ComponentType.APP_ROOT;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code ComponentSnapshot} writes and reads component trees in a compact binary format, so that analysis results can
+ * be restored without parsing the sources again.<br>
+ * The format starts with a header and a table of all distinct strings (values, checksums and attribute values), the
+ * trees follow in depth-first order. Types are written as enum ordinals, string references, attribute and child counts
+ * as variable length integers. Unique coordinates are not stored, they are derived from the values after loading.
+ * Reading and writing is iterative, deep trees do not overflow the stack.
+ *
+ * @author Martin Absmeier
+ */
+public final class ComponentSnapshot {
+
+    /** The magic number at the beginning of every snapshot ("CSNP") */
+    public static final int MAGIC = 0x43534E50;
+    /** The version of the format, it is incremented if the format changes */
+    public static final int VERSION = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String PARAM_FILE_NOT_NULL = "Parameter 'file' must not be NULL.";
+
+    /**
+     * Saves the components and libraries of the specified {@code application} to the specified {@code file}.
+     *
+     * @param application the application
+     * @param file        the file
+     * @throws ParserException if the snapshot can not be written
+     */
+    public static void save(ApplicationBase application, File file) {
+        requireNonNull(application, "Parameter 'application' must not be NULL.");
+        requireNonNull(file, PARAM_FILE_NOT_NULL);
+
+        List<Component> roots = new ArrayList<>(application.getLibraries().size() + 1);
+        roots.add(application.getComponents());
+        roots.addAll(application.getLibraries());
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            write(roots, outputStream);
+        } catch (IOException ex) {
+            throw new ParserException("Can not save snapshot to " + file.getAbsolutePath(), ex);
+        }
+    }
+
+    /**
+     * Loads the components and libraries saved by {@link #save(ApplicationBase, File)} into the specified
+     * {@code application}. The components are merged with the components already contained in the application.
+     *
+     * @param application the application (e.g. a new and empty one)
+     * @param file        the file the snapshot was saved to
+     * @throws ParserException if the snapshot can not be read
+     */
+    public static void load(ApplicationBase application, File file) {
+        requireNonNull(application, "Parameter 'application' must not be NULL.");
+        requireNonNull(file, PARAM_FILE_NOT_NULL);
+
+        List<Component> roots;
+        try (InputStream inputStream = new FileInputStream(file)) {
+            roots = read(inputStream);
+        } catch (IOException ex) {
+            throw new ParserException("Can not load snapshot from " + file.getAbsolutePath(), ex);
+        }
+        if (roots.isEmpty() || !roots.getFirst().isType(APP_ROOT)) {
+            throw new ParserException("Snapshot " + file.getAbsolutePath() + " does not contain an application.");
+        }
+
+        application.mergeWithApplication(roots.getFirst());
+        roots.subList(1, roots.size()).forEach(application::addLibrary);
+    }
+
+    /**
+     * Writes the trees specified by {@code roots} to the {@code outputStream}, the stream is not closed.
+     *
+     * @param roots        the roots of the trees
+     * @param outputStream the output stream
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(List<Component> roots, OutputStream outputStream) throws IOException {
+        requireNonNull(roots, "Parameter 'roots' must not be NULL.");
+        requireNonNull(outputStream, "Parameter 'outputStream' must not be NULL.");
+
+        // First pass collects the strings, the table must be known before the first node is written
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        for (Component root : roots) {
+            ComponentTraversal.traverse(root, (component, id, parentId) -> {
+                addString(strings, table, component.getValue());
+                addString(strings, table, component.getChecksum());
+                for (ComponentAttribute attribute : component.getAttributes()) {
+                    addString(strings, table, attribute.getValue());
+                }
+            });
+        }
+
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+        output.writeInt(MAGIC);
+        writeVarInt(output, VERSION);
+        writeVarInt(output, table.size());
+        for (String value : table) {
+            byte[] bytes = value.getBytes(DEFAULT.ENCODING);
+            writeVarInt(output, bytes.length);
+            output.write(bytes);
+        }
+
+        writeVarInt(output, roots.size());
+        for (Component root : roots) {
+            ComponentTraversal.traverse(root, (component, id, parentId) -> writeComponent(output, strings, component));
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads the trees written by {@link #write(List, OutputStream)} from the {@code inputStream}, the stream is not closed.
+     *
+     * @param inputStream the input stream
+     * @return the roots of the trees
+     * @throws IOException if an I/O error occurs or the stream does not contain a valid snapshot
+     */
+    public static List<Component> read(InputStream inputStream) throws IOException {
+        requireNonNull(inputStream, "Parameter 'inputStream' must not be NULL.");
+
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream, BUFFER_SIZE));
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Stream does not contain a component snapshot.");
+        }
+        int version = readVarInt(input);
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + ", expected " + VERSION + ".");
+        }
+
+        // The counts are not trusted for allocations, a corrupt count ends with the input
+        int numberOfStrings = readCount(input, "number of strings");
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < numberOfStrings; i++) {
+            int length = readCount(input, "string length");
+            byte[] bytes = input.readNBytes(length);
+            if (bytes.length != length) {
+                throw new IOException("Corrupt snapshot, string " + i + " is truncated.");
+            }
+            strings.add(new String(bytes, DEFAULT.ENCODING));
+        }
+        String[] table = strings.toArray(new String[0]);
+
+        ComponentType[] componentTypes = ComponentType.values();
+        ComponentAttributeType[] attributeTypes = ComponentAttributeType.values();
+        int numberOfRoots = readCount(input, "number of roots");
+        List<Component> roots = new ArrayList<>();
+        // Each entry holds a component and the number of its children still to be read
+        Deque<Object[]> stack = new ArrayDeque<>();
+        for (int i = 0; i < numberOfRoots; i++) {
+            Component root = readComponent(input, table, componentTypes, attributeTypes);
+            roots.add(root);
+            stack.push(new Object[]{root, readCount(input, "number of children")});
+            while (!stack.isEmpty()) {
+                Object[] entry = stack.peek();
+                int remaining = (Integer) entry[1];
+                if (remaining == 0) {
+                    stack.pop();
+                    continue;
+                }
+                entry[1] = remaining - 1;
+
+                Component child = readComponent(input, table, componentTypes, attributeTypes);
+                ((Component) entry[0]).addChild(child);
+                stack.push(new Object[]{child, readCount(input, "number of children")});
+            }
+        }
+
+        return roots;
+    }
+
+    // #################################################################################################################
+
+    private static void addString(Map<String, Integer> strings, List<String> table, String value) {
+        if (isNull(value) || strings.containsKey(value)) {
+            return;
+        }
+        strings.put(value, table.size());
+        table.add(value);
+    }
+
+    /**
+     * Writes a component, the child count is written last, the children follow directly.
+     */
+    private static void writeComponent(DataOutputStream output, Map<String, Integer> strings, Component component) throws IOException {
+        writeVarInt(output, component.getType().ordinal());
+        writeVarInt(output, strings.get(component.getValue()));
+        writeNullableString(output, strings, component.getChecksum());
+
+        List<ComponentAttribute> attributes = component.getAttributes();
+        writeVarInt(output, attributes.size());
+        for (ComponentAttribute attribute : attributes) {
+            writeVarInt(output, attribute.getType().ordinal());
+            writeNullableString(output, strings, attribute.getValue());
+        }
+
+        writeVarInt(output, component.getChildren().size());
+    }
+
+    /**
+     * Reads a component without its child count.
+     */
+    private static Component readComponent(DataInputStream input, String[] table, ComponentType[] componentTypes,
+                                           ComponentAttributeType[] attributeTypes) throws IOException {
+        ComponentType type = componentTypes[readIndex(input, componentTypes.length, "component type")];
+        Component component = new Component(type, table[readIndex(input, table.length, "string")]);
+        String checksum = readNullableString(input, table);
+        if (nonNull(checksum)) {
+            component.setChecksum(checksum);
+        }
+
+        int numberOfAttributes = readCount(input, "number of attributes");
+        for (int i = 0; i < numberOfAttributes; i++) {
+            ComponentAttributeType attributeType = attributeTypes[readIndex(input, attributeTypes.length, "attribute type")];
+            String value = readNullableString(input, table);
+            if (isNull(value)) {
+                throw new IOException("Corrupt snapshot, attribute " + attributeType + " has no value.");
+            }
+            component.addAttribute(ComponentAttribute.builder().type(attributeType).value(value).build());
+        }
+
+        return component;
+    }
+
+    /**
+     * NULL is written as 0, all other strings as index in the string table plus 1.
+     */
+    private static void writeNullableString(DataOutputStream output, Map<String, Integer> strings, String value) throws IOException {
+        writeVarInt(output, isNull(value) ? 0 : strings.get(value) + 1);
+    }
+
+    private static String readNullableString(DataInputStream input, String[] table) throws IOException {
+        int index = readIndex(input, table.length + 1, "string");
+        return index == 0 ? null : table[index - 1];
+    }
+
+    /**
+     * Reads an index and checks that it is less than {@code bound}.
+     */
+    private static int readIndex(DataInputStream input, int bound, String name) throws IOException {
+        int index = readVarInt(input);
+        if (index < 0 || index >= bound) {
+            throw new IOException("Corrupt snapshot, " + name + " index " + Integer.toUnsignedString(index) + " is out of range.");
+        }
+        return index;
+    }
+
+    private static int readCount(DataInputStream input, String name) throws IOException {
+        int count = readVarInt(input);
+        if (count < 0) {
+            throw new IOException("Corrupt snapshot, " + name + " " + Integer.toUnsignedString(count) + " is too large.");
+        }
+        return count;
+    }
+
+    /**
+     * Writes the non-negative {@code value} with 7 bits per byte, the highest bit marks that another byte follows.
+     */
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write(value);
+    }
+
+    private static int readVarInt(DataInputStream input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int next = input.read();
+            if (next < 0) {
+                throw new EOFException("Unexpected end of component snapshot.");
+            }
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer in component snapshot.");
+    }
+
+    private ComponentSnapshot() {
+        // We do not want an instance
+    }
+}
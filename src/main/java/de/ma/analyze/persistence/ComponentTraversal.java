@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.persistence;
+
+import de.ma.analyze.common.component.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * {@code ComponentTraversal} visits a component tree iteratively in depth-first order and assigns ids to the
+ * components. The ids start with 1 for the root, parents always have lower ids than their children and the same tree
+ * always gets the same ids, so several passes over a tree can refer to the same component.
+ *
+ * @author Martin Absmeier
+ */
+final class ComponentTraversal {
+
+    /**
+     * Visitor of a component.
+     *
+     * @param <E> the exception thrown by the visitor
+     */
+    @FunctionalInterface
+    interface Visitor<E extends Exception> {
+
+        /**
+         * Visits the specified {@code component}.
+         *
+         * @param component the component
+         * @param id        the id of the component
+         * @param parentId  the id of the parent or NULL if the component is the root
+         * @throws E if the component can not be processed
+         */
+        void visit(Component component, long id, Long parentId) throws E;
+    }
+
+    /**
+     * Visits all components of the tree specified by {@code root}.
+     *
+     * @param root    the root of the tree
+     * @param visitor the visitor
+     * @param <E>     the exception thrown by the visitor
+     * @return the number of visited components
+     * @throws E if the visitor throws
+     */
+    static <E extends Exception> long traverse(Component root, Visitor<E> visitor) throws E {
+        long count = 0;
+
+        // Iterative traversal, deep trees must not overflow the stack
+        Deque<Object[]> stack = new ArrayDeque<>();
+        stack.push(new Object[]{root, null});
+        while (!stack.isEmpty()) {
+            Object[] entry = stack.pop();
+            Component component = (Component) entry[0];
+            long id = ++count;
+
+            visitor.visit(component, id, (Long) entry[1]);
+
+            List<Component> children = component.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(new Object[]{children.get(i), id});
+            }
+        }
+
+        return count;
+    }
+
+    private ComponentTraversal() {
+        // We do not want an instance
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.persistence;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.ComponentAttribute;
+import de.ma.analyze.common.component.type.ComponentAttributeType;
+import de.ma.analyze.common.component.type.ComponentType;
+import de.ma.analyze.common.exception.ParserException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static de.ma.analyze.common.component.type.ComponentType.LIB_ROOT;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code LibraryModel} stores a prebuilt library (e.g. the JDK or a third-party jar) as index file which is memory-mapped
+ * when it is opened. Only the root is created on {@link #open(File)}, the children of every component are materialized
+ * with a {@link de.ma.analyze.common.component.ComponentLoader} when they are accessed for the first time, e.g. by an
+ * import or a visibility lookup. Strings are decoded on first use and shared by all components.<br>
+ * Every node has a fixed layout of 32 bit integers: type ordinal, value, checksum (-1 if NULL), number of attributes,
+ * the attributes as pairs of type ordinal and value, number of children and the offsets of the children. Values refer
+ * to the string table at the end of the file.
+ *
+ * @author Martin Absmeier
+ */
+public final class LibraryModel {
+
+    /** The magic number at the beginning of every library model ("CLIB") */
+    public static final int MAGIC = 0x434C4942;
+    /** The version of the format, it is incremented if the format changes */
+    public static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+    private static final int NO_STRING = -1;
+    private static final ComponentType[] COMPONENT_TYPES = ComponentType.values();
+    private static final ComponentAttributeType[] ATTRIBUTE_TYPES = ComponentAttributeType.values();
+
+    private final ByteBuffer buffer;
+    private final int stringTableOffset;
+    private final String[] strings;
+
+    /**
+     * Writes the specified {@code library} to the specified {@code file}.
+     *
+     * @param library the root of the library (a LIB_ROOT component)
+     * @param file    the file
+     * @throws ParserException if the library model can not be written
+     */
+    public static void write(Component library, File file) {
+        requireNonNull(library, "Parameter 'library' must not be NULL.");
+        requireNonNull(file, "Parameter 'file' must not be NULL.");
+
+        // The size of a node is known in advance, so the offsets of all nodes can be assigned before writing them
+        Map<Component, Integer> offsets = new IdentityHashMap<>();
+        Map<String, Integer> stringIndex = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        int[] offset = {HEADER_SIZE};
+        ComponentTraversal.traverse(library, (component, id, parentId) -> {
+            offsets.put(component, offset[0]);
+            offset[0] += nodeSize(component);
+            addString(stringIndex, table, component.getValue());
+            addString(stringIndex, table, component.getChecksum());
+            component.getAttributes().forEach(attribute -> addString(stringIndex, table, attribute.getValue()));
+        });
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(offset[0]);
+            output.writeInt(HEADER_SIZE);
+
+            ComponentTraversal.traverse(library, (component, id, parentId) -> {
+                output.writeInt(component.getType().ordinal());
+                output.writeInt(stringIndex.get(component.getValue()));
+                output.writeInt(isNull(component.getChecksum()) ? NO_STRING : stringIndex.get(component.getChecksum()));
+                output.writeInt(component.getAttributes().size());
+                for (ComponentAttribute attribute : component.getAttributes()) {
+                    output.writeInt(attribute.getType().ordinal());
+                    output.writeInt(isNull(attribute.getValue()) ? NO_STRING : stringIndex.get(attribute.getValue()));
+                }
+                output.writeInt(component.getChildren().size());
+                for (Component child : component.getChildren()) {
+                    output.writeInt(offsets.get(child));
+                }
+            });
+
+            // The string table: number of strings, their offsets and the strings with their length in bytes
+            List<byte[]> encoded = table.stream().map(value -> value.getBytes(DEFAULT.ENCODING)).toList();
+            output.writeInt(encoded.size());
+            int stringOffset = offset[0] + Integer.BYTES * (encoded.size() + 1);
+            for (byte[] bytes : encoded) {
+                output.writeInt(stringOffset);
+                stringOffset += Integer.BYTES + bytes.length;
+            }
+            for (byte[] bytes : encoded) {
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        } catch (IOException ex) {
+            throw new ParserException("Can not write library model to " + file.getAbsolutePath(), ex);
+        }
+    }
+
+    /**
+     * Opens the library model specified by {@code file}. The file is memory-mapped and stays mapped as long as
+     * components with unloaded children are reachable.
+     *
+     * @param file the file the library model was written to
+     * @return the root of the library, its children are loaded on first access
+     * @throws ParserException if the file is not a library model or can not be mapped
+     */
+    public static Component open(File file) {
+        requireNonNull(file, "Parameter 'file' must not be NULL.");
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException ex) {
+            throw new ParserException("Can not open library model " + file.getAbsolutePath(), ex);
+        }
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new ParserException("File " + file.getAbsolutePath() + " is not a library model.");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new ParserException("Unsupported library model version " + buffer.getInt(Integer.BYTES) + " in " + file.getAbsolutePath());
+        }
+
+        LibraryModel model = new LibraryModel(buffer);
+        Component library = model.readComponent(buffer.getInt(3 * Integer.BYTES));
+        if (!library.isType(LIB_ROOT)) {
+            throw new ParserException("Library model " + file.getAbsolutePath() + " does not start with a library.");
+        }
+
+        return library;
+    }
+
+    // #################################################################################################################
+
+    private LibraryModel(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.stringTableOffset = buffer.getInt(2 * Integer.BYTES);
+        this.strings = new String[buffer.getInt(stringTableOffset)];
+    }
+
+    /**
+     * Creates the component stored at {@code offset}, its children are loaded on first access.
+     */
+    private Component readComponent(int offset) {
+        Component component = new Component(COMPONENT_TYPES[buffer.getInt(offset)], string(buffer.getInt(offset + 4)));
+        String checksum = string(buffer.getInt(offset + 8));
+        if (nonNull(checksum)) {
+            component.setChecksum(checksum);
+        }
+
+        int numberOfAttributes = buffer.getInt(offset + 12);
+        int position = offset + 16;
+        for (int i = 0; i < numberOfAttributes; i++, position += 8) {
+            component.addAttribute(ComponentAttribute.builder()
+                    .type(ATTRIBUTE_TYPES[buffer.getInt(position)])
+                    .value(string(buffer.getInt(position + 4)))
+                    .build());
+        }
+
+        int childrenOffset = position;
+        if (buffer.getInt(childrenOffset) > 0) {
+            component.setChildrenLoader(parent -> readChildren(childrenOffset));
+        }
+
+        return component;
+    }
+
+    private List<Component> readChildren(int offset) {
+        int numberOfChildren = buffer.getInt(offset);
+        List<Component> children = new ArrayList<>(numberOfChildren);
+        for (int i = 1; i <= numberOfChildren; i++) {
+            children.add(readComponent(buffer.getInt(offset + i * Integer.BYTES)));
+        }
+        return children;
+    }
+
+    /**
+     * Returns the string specified by {@code index}, it is decoded once and shared afterward.
+     */
+    private String string(int index) {
+        if (index == NO_STRING) {
+            return null;
+        }
+
+        String value = strings[index];
+        if (isNull(value)) {
+            int offset = buffer.getInt(stringTableOffset + Integer.BYTES * (index + 1));
+            byte[] bytes = new byte[buffer.getInt(offset)];
+            buffer.get(offset + Integer.BYTES, bytes);
+            value = new String(bytes, DEFAULT.ENCODING);
+            strings[index] = value;
+        }
+        return value;
+    }
+
+    private static int nodeSize(Component component) {
+        return Integer.BYTES * (5 + 2 * component.getAttributes().size() + component.getChildren().size());
+    }
+
+    private static void addString(Map<String, Integer> stringIndex, List<String> table, String value) {
+        if (nonNull(value) && !stringIndex.containsKey(value)) {
+            stringIndex.put(value, table.size());
+            table.add(value);
+        }
+    }
+}
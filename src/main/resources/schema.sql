@@ -0,0 +1,28 @@
+-- Component tree snapshots, the ids of the components are assigned by the application in depth-first order per snapshot
+CREATE TABLE IF NOT EXISTS analyze_snapshot
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    revision_id VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP    NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS analyze_component
+(
+    snapshot_id     BIGINT      NOT NULL REFERENCES analyze_snapshot (id) ON DELETE CASCADE,
+    id              BIGINT      NOT NULL,
+    parent_id       BIGINT,
+    component_type  VARCHAR(64) NOT NULL,
+    component_value VARCHAR     NOT NULL,
+    checksum        VARCHAR(255),
+    PRIMARY KEY (snapshot_id, id)
+);
+
+CREATE TABLE IF NOT EXISTS analyze_component_attribute
+(
+    snapshot_id        BIGINT      NOT NULL REFERENCES analyze_snapshot (id) ON DELETE CASCADE,
+    component_id       BIGINT      NOT NULL,
+    attribute_position INTEGER     NOT NULL,
+    attribute_type     VARCHAR(64) NOT NULL,
+    attribute_value    VARCHAR     NOT NULL,
+    PRIMARY KEY (snapshot_id, component_id, attribute_position)
+);
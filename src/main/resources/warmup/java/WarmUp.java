@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.warmup;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Source file parsed at startup to warm up the DFA cache of the java parser. It covers the common constructs of the
+ * language, it is never compiled.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public abstract class WarmUp<T extends Comparable<? super T>> implements Serializable, Comparable<WarmUp<T>> {
+    private static final long serialVersionUID = 1L;
+    public static final int[] NUMBERS = {1, 2, 3, 0x1F, 0b101, 1_000_000};
+    protected final Map<String, List<T>> values = new HashMap<>();
+    private transient volatile String name;
+    private char separator = '.', quote = '\'';
+    private double ratio = 1.5e-3d;
+
+    static {
+        System.setProperty("warmup", "true");
+    }
+
+    protected WarmUp(String name) {
+        this.name = requireNonNull(name, "Parameter 'name' must not be NULL.");
+    }
+
+    public <R> List<R> map(Function<? super T, ? extends R> mapper) {
+        return values.values().stream()
+                .flatMap(List::stream)
+                .filter(value -> value != null && !value.toString().isEmpty())
+                .map(mapper)
+                .collect(Collectors.toList());
+    }
+
+    public synchronized int count(String key, T... items) throws IOException {
+        int result = 0;
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] instanceof String text && !text.isBlank()) {
+                result += text.length() > 3 ? 1 : -1;
+            } else if (items[i] == null) {
+                continue;
+            }
+            result <<= 1;
+            result |= i % 2 == 0 ? 1 : 0;
+        }
+        label:
+        while (result > 100) {
+            result = result >>> 2;
+            do {
+                result--;
+            } while (result % 7 != 0);
+            break label;
+        }
+        try (Scanner scanner = new Scanner(key)) {
+            result += scanner.hasNext() ? scanner.next().hashCode() : 0;
+        } catch (IllegalStateException | NoSuchElementException ex) {
+            throw new IOException(ex);
+        } finally {
+            name = name + key;
+        }
+        return result;
+    }
+
+    public String describe(int size) {
+        return switch (size) {
+            case 0 -> "empty";
+            case 1, 2 -> "small";
+            default -> {
+                String text = String.valueOf(size);
+                yield text.length() > 3 ? "large" : text;
+            }
+        };
+    }
+
+    public int weekday(Day day) {
+        switch (day) {
+            case MONDAY:
+            case TUESDAY:
+                return 1;
+            default:
+                return day.ordinal();
+        }
+    }
+
+    @Override
+    public int compareTo(WarmUp<T> other) {
+        Comparator<WarmUp<T>> comparator = Comparator.comparing(w -> w.name);
+        return comparator.thenComparing(w -> w.ratio).compare(this, other);
+    }
+
+    protected abstract T create(String value);
+
+    public enum Day {
+        MONDAY("mo"), TUESDAY("tu") {
+            @Override
+            public String shortName() {
+                return "di";
+            }
+        }, WEDNESDAY("we");
+
+        private final String shortName;
+
+        Day(String shortName) {
+            this.shortName = shortName;
+        }
+
+        public String shortName() {
+            return shortName;
+        }
+    }
+
+    public interface Visitor<R> {
+        String PREFIX = "visit";
+
+        R visit(Object node);
+
+        default R visitAll(Collection<?> nodes) {
+            R last = null;
+            for (Object node : nodes) {
+                last = visit(node);
+            }
+            return last;
+        }
+
+        static <R> Visitor<R> of(Function<Object, R> function) {
+            return function::apply;
+        }
+    }
+
+    public record Pair<A, B>(A first, B second) {
+        public Pair {
+            Objects.requireNonNull(first);
+        }
+
+        public static <A, B> Pair<A, B> of(A first, B second) {
+            return new Pair<>(first, second);
+        }
+    }
+
+    public @interface Marker {
+        String value() default "";
+
+        int[] ranks() default {};
+    }
+
+    private static final class Node<E> extends ArrayList<E> implements Iterable<E> {
+        private final Node<E>[] children = (Node<E>[]) new Node[2];
+
+        Node() {
+            super(10);
+            Runnable runnable = () -> System.out.println(this.size());
+            runnable.run();
+            Object anonymous = new Object() {
+                @Override
+                public String toString() {
+                    return "node";
+                }
+            };
+            int[][] matrix = new int[3][];
+            long value = (long) matrix.length * children.length;
+            assert value >= 0 : "negative";
+            String text = value > 0 ? "positive" : anonymous.toString();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.checksum;
+
+import de.ma.analyze.parser.java.JavaLexer;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChecksumsTests {
+
+    @Test
+    void calculateSha512() {
+        assertEquals("ddaf35a193617abacc417349ae20413112e6fa4e89a97ea20a9eeee64b55d39a"
+                        + "2192992a274fc1a836ba3c23a3feebbd454d4423643ce80e2a9ac94fa54ca49f",
+                Checksums.calculate(ChecksumAlgorithm.SHA_512, "abc"));
+    }
+
+    @Test
+    void calculateMurmur3() {
+        assertEquals("00000000000000000000000000000000", Checksums.calculate(ChecksumAlgorithm.MURMUR3_128, ""));
+        assertEquals("029bbd41b3a7d8cb191dae486a901e5b", Checksums.calculate(ChecksumAlgorithm.MURMUR3_128, "hello"));
+        // 43 bytes, two full blocks and a tail longer than 8 bytes
+        assertEquals("6c1b07bc7bbc4be347939ac4a93c437a",
+                Checksums.calculate(ChecksumAlgorithm.MURMUR3_128, "The quick brown fox jumps over the lazy dog"));
+        // The buffer is flushed after 8190 bytes, so a block is split between two updates of the hasher
+        assertEquals("2d4f6463396e3cf3bd514036ad483ea2", Checksums.calculate(ChecksumAlgorithm.MURMUR3_128, "\u20AC".repeat(3001)));
+    }
+
+    @Test
+    void calculateFromTokenStream() {
+        CommonTokenStream tokens = tokenize("class Foo { void bär() { return; } }");
+        CommonTokenStream commented = tokenize("class Foo {\n  // comment\n  void bär()  { /* none */ return; }\n}");
+        CommonTokenStream changed = tokenize("class Bar { void bär() { return; } }");
+
+        for (ChecksumAlgorithm algorithm : ChecksumAlgorithm.values()) {
+            String expected = calculate(algorithm, tokens);
+            assertEquals(expected, calculate(algorithm, commented));
+            assertNotEquals(expected, calculate(algorithm, changed));
+        }
+        // The position of the input is restored
+        int index = tokens.getTokenSource().getInputStream().index();
+        assertEquals(32, calculate(ChecksumAlgorithm.MURMUR3_128, tokens).length());
+        assertEquals(index, tokens.getTokenSource().getInputStream().index());
+    }
+
+    private CommonTokenStream tokenize(String source) {
+        CommonTokenStream tokens = new CommonTokenStream(new JavaLexer(CharStreams.fromString(source)));
+        tokens.fill();
+        return tokens;
+    }
+
+    private String calculate(ChecksumAlgorithm algorithm, CommonTokenStream tokens) {
+        return Checksums.calculate(algorithm, tokens, 0, tokens.size() - 1);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.component;
+
+import de.ma.analyze.common.component.type.ComponentAttributeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static de.ma.analyze.common.component.type.ComponentAttributeType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentAttributesTests {
+
+    @Test
+    void numericValues() {
+        ComponentAttributes attributes = new ComponentAttributes();
+        attributes.add(LINE, 3);
+        attributes.add(COLUMN, "12");
+        // Not in canonical form or too large for the payload, they are kept in the value table
+        attributes.add(LINE, "007");
+        attributes.add(LINE, "9000000");
+        // Negative values fall back to the value table
+        attributes.add(COLUMN, -1);
+        attributes.add(LINE, Integer.MAX_VALUE);
+
+        assertEquals(List.of(attribute(LINE, "3"), attribute(COLUMN, "12"), attribute(LINE, "007"),
+                attribute(LINE, "9000000"), attribute(COLUMN, "-1"), attribute(LINE, String.valueOf(Integer.MAX_VALUE))), attributes);
+        assertTrue(attributes.contains(attribute(LINE, "007")));
+        assertFalse(attributes.contains(attribute(LINE, "7")));
+        assertEquals(List.of(attribute(COLUMN, "12"), attribute(COLUMN, "-1")), attributes.findByType(COLUMN));
+    }
+
+    @Test
+    void sourceNamesAreInterned() {
+        ComponentAttributes attributes = new ComponentAttributes();
+        attributes.add(SOURCE_NAME, new String("Foo.java".toCharArray()));
+
+        assertSame("Foo.java", attributes.getFirst().getValue());
+    }
+
+    @Test
+    void modifiers() {
+        ComponentAttributes attributes = new ComponentAttributes();
+        attributes.add(JAVA_MODIFIER, "static");
+        attributes.add(LINE, 3);
+        attributes.add(JAVA_MODIFIER, "public");
+        attributes.add(JAVA_MODIFIER, "static");
+        // Unknown modifiers are stored like any other attribute
+        attributes.add(JAVA_MODIFIER, "synchronized");
+
+        // Modifiers keep their order and multiplicity
+        List<ComponentAttribute> expected = List.of(attribute(JAVA_MODIFIER, "static"), attribute(LINE, "3"),
+                attribute(JAVA_MODIFIER, "public"), attribute(JAVA_MODIFIER, "static"), attribute(JAVA_MODIFIER, "synchronized"));
+        assertEquals(expected, attributes);
+        assertEquals(attribute(JAVA_MODIFIER, "public"), attributes.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> attributes.get(5));
+        assertEquals(List.of(attribute(JAVA_MODIFIER, "static"), attribute(JAVA_MODIFIER, "public"),
+                attribute(JAVA_MODIFIER, "static"), attribute(JAVA_MODIFIER, "synchronized")), attributes.findByType(JAVA_MODIFIER));
+
+        assertTrue(attributes.contains(attribute(JAVA_MODIFIER, "static")));
+        assertTrue(attributes.contains(attribute(JAVA_MODIFIER, "synchronized")));
+        assertFalse(attributes.contains(attribute(JAVA_MODIFIER, "final")));
+        assertFalse(attributes.contains(attribute(SOURCE_NAME, "static")));
+        assertFalse(attributes.contains("static"));
+    }
+
+    @Test
+    void returnedAttributesAreCopies() {
+        ComponentAttributes attributes = new ComponentAttributes();
+        attributes.add(SOURCE_NAME, "Foo.java");
+        attributes.add(JAVA_MODIFIER, "public");
+
+        attributes.get(0).setValue("Bar.java");
+        attributes.findByType(JAVA_MODIFIER).getFirst().setValue("private");
+
+        assertEquals(List.of(attribute(SOURCE_NAME, "Foo.java"), attribute(JAVA_MODIFIER, "public")), attributes);
+    }
+
+    @Test
+    void changeLikeList() {
+        ComponentAttributes attributes = new ComponentAttributes();
+        attributes.add(LINE, 3);
+        attributes.add(JAVA_MODIFIER, "public");
+        attributes.add(SOURCE_NAME, "Foo.java");
+
+        assertEquals(attribute(LINE, "3"), attributes.set(0, attribute(LINE, "4")));
+        assertEquals(attribute(JAVA_MODIFIER, "public"), attributes.set(1, attribute(JAVA_MODIFIER, "private")));
+        attributes.add(1, attribute(JAVA_MODIFIER, "static"));
+        assertEquals(List.of(attribute(LINE, "4"), attribute(JAVA_MODIFIER, "static"), attribute(JAVA_MODIFIER, "private"),
+                attribute(SOURCE_NAME, "Foo.java")), attributes);
+
+        assertEquals(attribute(JAVA_MODIFIER, "static"), attributes.remove(1));
+        assertTrue(attributes.remove(attribute(SOURCE_NAME, "Foo.java")));
+        assertEquals(List.of(attribute(LINE, "4"), attribute(JAVA_MODIFIER, "private")), attributes);
+        assertThrows(IndexOutOfBoundsException.class, () -> attributes.set(2, attribute(LINE, "5")));
+
+        attributes.clear();
+        assertTrue(attributes.isEmpty());
+        assertFalse(attributes.contains(attribute(JAVA_MODIFIER, "private")));
+    }
+
+    private ComponentAttribute attribute(ComponentAttributeType type, String value) {
+        return ComponentAttribute.builder().type(type).value(value).build();
+    }
+}
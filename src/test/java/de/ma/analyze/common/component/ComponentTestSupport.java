@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.component;
+
+import de.ma.analyze.common.component.type.ComponentAttributeType;
+import de.ma.analyze.common.component.type.ComponentType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@code ComponentTestSupport} provides the component trees and assertions shared by the tests.
+ *
+ * @author Martin Absmeier
+ */
+public final class ComponentTestSupport {
+
+    /** The unique coordinate of the class of {@link #createApplicationTree(int)} */
+    public static final String CLASS_COORDINATE = "de.Foo";
+    /** The unique coordinate of the method of {@link #createApplicationTree(int)} */
+    public static final String METHOD_COORDINATE = "de.Foo.bar";
+    /** The checksum of the method of {@link #createApplicationTree(int)} */
+    public static final String METHOD_CHECKSUM = "abc";
+
+    /**
+     * Creates the tree {@code APP_ROOT -> de -> Foo -> [bar#abc, field0 .. field(n-1)]}, the class has a LINE and a
+     * modifier attribute.
+     *
+     * @param numberOfFields the number of fields of the class
+     * @return the root of the tree
+     */
+    public static Component createApplicationTree(int numberOfFields) {
+        Component root = Component.builder().type(ComponentType.APP_ROOT).value(ComponentType.APP_ROOT.name()).build();
+        Component pckg = Component.builder().type(ComponentType.JAVA_PACKAGE).value("de").build();
+        Component clazz = Component.builder().type(ComponentType.JAVA_CLASS).value("Foo").build();
+        Component method = Component.builder().type(ComponentType.JAVA_METHOD).value("bar").build();
+        method.setChecksum(METHOD_CHECKSUM);
+        clazz.addAttribute(ComponentAttributeType.LINE, 3);
+        clazz.addAttribute(ComponentAttribute.builder().type(ComponentAttributeType.JAVA_MODIFIER).value("public").build());
+        root.addChild(pckg);
+        pckg.addChild(clazz);
+        clazz.addChild(method);
+        for (int i = 0; i < numberOfFields; i++) {
+            clazz.addChild(Component.builder().type(ComponentType.JAVA_FIELD).value("field" + i).build());
+        }
+        return root;
+    }
+
+    /**
+     * Describes the specified {@code component} with type, value, checksum and attributes of all components of the
+     * tree in their order, two trees are equal if their descriptions are equal.
+     *
+     * @param component the root of the tree
+     * @return the description
+     */
+    public static String describe(Component component) {
+        StringBuilder builder = new StringBuilder()
+                .append(component.getType()).append(' ').append(component.getValue()).append(' ')
+                .append(component.getChecksum()).append(' ').append(component.getAttributes()).append('[');
+        component.getChildren().forEach(child -> builder.append(describe(child)));
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Asserts that the trees specified by {@code expected} and {@code actual} are equal, including the order of the
+     * children and attributes.
+     *
+     * @param expected the expected tree
+     * @param actual   the actual tree
+     */
+    public static void assertTreeEquals(Component expected, Component actual) {
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    private ComponentTestSupport() {
+        // We do not want an instance
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.component;
+
+import de.ma.analyze.common.component.type.ComponentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentTests {
+
+    @Test
+    void childIndexFollowsChanges() {
+        Component clazz = Component.builder().type(ComponentType.JAVA_CLASS).value("Foo").build();
+        for (int i = 0; i < 10; i++) {
+            clazz.addChild(Component.builder().type(ComponentType.JAVA_METHOD).value("method" + i).build());
+        }
+        Component method = clazz.findChildByCoordinate("method3");
+        assertNotNull(method);
+
+        method.setValue("renamed");
+        assertNull(clazz.findChildByCoordinate("method3"));
+        assertSame(method, clazz.findChildByCoordinate("renamed"));
+
+        method.setChecksum("abc");
+        assertSame(method, clazz.findChildByCoordinate("renamed#abc"));
+        assertSame(method, clazz.findChildByComponent(method));
+
+        Component replacement = Component.builder().type(ComponentType.JAVA_FIELD).value("method5").build();
+        Component replaced = clazz.findChildByCoordinate("method5");
+        assertTrue(clazz.removeChild(replaced));
+        clazz.addChild(replacement);
+        assertSame(replacement, clazz.findChildByCoordinate("method5"));
+        assertEquals(List.of(replacement), clazz.findChildrenByType(ComponentType.JAVA_FIELD));
+
+
+        // Changes through the list of children keep the index up to date
+        List<Component> children = clazz.getChildren();
+        Component field = Component.builder().type(ComponentType.JAVA_FIELD).value("field").build();
+        children.add(field);
+        assertSame(field, clazz.findChildByCoordinate("field"));
+        Component first = children.getFirst();
+        Component setField = Component.builder().type(ComponentType.JAVA_FIELD).value("setField").build();
+        assertSame(first, children.set(0, setField));
+        assertNull(clazz.findChildByComponent(first));
+        assertSame(setField, clazz.findChildByCoordinate("setField"));
+        children.remove(setField);
+        assertNull(clazz.findChildByCoordinate("setField"));
+        assertEquals(List.of(replacement, field), clazz.findChildrenByType(ComponentType.JAVA_FIELD));
+    }
+}
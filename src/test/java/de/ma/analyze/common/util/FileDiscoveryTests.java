@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileDiscoveryTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findFiles() throws IOException {
+        for (String name : List.of("src/A.java", "src/B.scala", "src/C.txt", "target/D.java", "node_modules/x/E.java",
+                "generated/F.java", "sub/generated/G.java")) {
+            Path file = directory.resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.createFile(file);
+        }
+
+        List<String> names = FileDiscovery.builder().excludes(List.of("**/generated", "generated")).build()
+                .findFiles(directory.toFile(), List.of("java", "scala")).stream()
+                .map(File::getName)
+                .sorted()
+                .toList();
+
+        assertEquals(List.of("A.java", "B.scala"), names);
+    }
+
+    @Test
+    void pruneBuildOutputOnlyInModuleRoots() throws IOException {
+        for (String name : List.of("pom.xml", "target/A.java", "src/main/java/de/build/B.java", "src/main/java/de/target/C.java",
+                "module/build.gradle.kts", "module/build/D.java", "module/src/main/java/de/build/E.java",
+                "module/src/.git/F.java", "module/src/node_modules/G.java")) {
+            Path file = directory.resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.createFile(file);
+        }
+
+        List<String> names = FileDiscovery.builder().build()
+                .findFiles(directory.toFile(), List.of("java")).stream()
+                .map(File::getName)
+                .sorted()
+                .toList();
+
+        assertEquals(List.of("B.java", "C.java", "E.java"), names);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.job;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.common.checksum.ChecksumAlgorithm;
+import de.ma.analyze.parser.common.IncrementalState;
+import de.ma.analyze.parser.common.listener.ListenerBase;
+import de.ma.analyze.parser.java.JavaApplication;
+import de.ma.analyze.parser.java.JavaParser;
+import de.ma.analyze.parser.java.listener.JavaStructureListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisJobSchedulerTests {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void scheduleJobs() throws Exception {
+        Files.writeString(new File(directory, "Foo.java").toPath(), "package de.ma;\n\npublic class Foo {\n}\n");
+        AnalysisJobScheduler scheduler = new AnalysisJobScheduler(1, ChecksumAlgorithm.SHA_512);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Queue<String> order = new ConcurrentLinkedQueue<>();
+
+        try {
+            AnalysisJob blocking = scheduler.submit(createRequest(application -> new JavaStructureListener(DEFAULT.REVISION_ID, application) {
+                @Override
+                public void enterCompilationUnit(JavaParser.CompilationUnitContext ctx) {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    super.enterCompilationUnit(ctx);
+                }
+            }, null, null));
+            assertTrue(started.await(30, TimeUnit.SECONDS));
+            assertEquals(AnalysisJobStatus.RUNNING, blocking.getStatus());
+
+            AnalysisJob cancelled = scheduler.submit(createRequest(recordOrder(order, "cancelled"), null, null));
+            AnalysisJob full = scheduler.submit(createRequest(recordOrder(order, "full"), null, null));
+            AnalysisRequest incrementalRequest = createRequest(recordOrder(order, "incremental"), new JavaApplication(), new IncrementalState());
+            AnalysisJob incremental = scheduler.submit(incrementalRequest);
+            AnalysisJob failed = scheduler.submit(createRequest(application -> {
+                throw new AssertionError("Listener can not be created");
+            }, null, null));
+            assertThrows(IllegalArgumentException.class, () -> scheduler.submit(createRequest(recordOrder(order, "rejected"), null, new IncrementalState())));
+            assertEquals(AnalysisJobStatus.QUEUED, cancelled.getStatus());
+            assertTrue(scheduler.cancel(cancelled.getId()));
+            assertEquals(AnalysisJobStatus.CANCELLED, cancelled.getStatus());
+            assertTrue(cancelled.getResult().isCancelled());
+
+            release.countDown();
+            JavaApplication application = blocking.getResult().get(30, TimeUnit.SECONDS);
+            full.getResult().get(30, TimeUnit.SECONDS);
+            assertSame(incrementalRequest.getApplication(), incremental.getResult().get(30, TimeUnit.SECONDS));
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> failed.getResult().get(30, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, failure.getCause());
+            assertEquals(AnalysisJobStatus.FAILED, failed.getStatus());
+            assertEquals("Listener can not be created", failed.getErrorMessage());
+
+            assertEquals(AnalysisJobStatus.COMPLETED, blocking.getStatus());
+            assertNotNull(application.findApplicationComponentByUniqueCoordinate("de.ma.Foo"));
+            assertEquals(List.of("incremental", "full"), List.copyOf(order));
+            assertSame(full, scheduler.removeJob(full.getId()));
+            assertNull(scheduler.findJob(full.getId()));
+        } finally {
+            release.countDown();
+            scheduler.destroy();
+        }
+    }
+
+    private AnalysisRequest createRequest(Function<JavaApplication, ListenerBase> listener, JavaApplication application,
+                                          IncrementalState incrementalState) {
+        return AnalysisRequest.builder()
+                .directory(directory)
+                .revisionId(DEFAULT.REVISION_ID)
+                .listeners(List.of(listener))
+                .application(application)
+                .incrementalState(incrementalState)
+                .build();
+    }
+
+    private Function<JavaApplication, ListenerBase> recordOrder(Queue<String> order, String name) {
+        return application -> {
+            order.add(name);
+            return new JavaStructureListener(DEFAULT.REVISION_ID, application);
+        };
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.common;
+
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.type.ComponentAttributeType;
+import de.ma.analyze.common.component.type.ComponentType;
+import de.ma.analyze.parser.java.JavaApplication;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static de.ma.analyze.common.component.ComponentTestSupport.assertTreeEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationBaseTests {
+
+    private static final int FILES = 400;
+    private static final int PACKAGES = 7;
+
+    @Test
+    void mergeWithApplicationConcurrently() throws Exception {
+        ApplicationBase application = new JavaApplication();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < FILES; i++) {
+            Component root = createFile(i);
+            tasks.add(() -> {
+                application.mergeWithApplication(root);
+                return null;
+            });
+        }
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+
+        Component de = application.getComponents().findChildByCoordinate("de");
+        assertEquals(1, application.getComponents().getChildren().size());
+        assertEquals(PACKAGES, de.getChildren().size());
+        assertEquals(PACKAGES, de.findAttributesByType(ComponentAttributeType.LINE).size());
+        for (int i = 0; i < FILES; i++) {
+            Component clazz = application.findApplicationComponentByUniqueCoordinate("de.p" + (i % PACKAGES) + ".Class" + i);
+            assertNotNull(clazz);
+            assertSame(clazz, de.findChildByCoordinate("p" + (i % PACKAGES)).findChildByCoordinate("Class" + i));
+        }
+    }
+
+    @Test
+    void findWhileMerging() throws Exception {
+        ApplicationBase application = new JavaApplication();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < FILES; i++) {
+            Component root = createFile(i);
+            tasks.add(() -> {
+                application.mergeWithApplication(root);
+                return null;
+            });
+        }
+        AtomicBoolean merging = new AtomicBoolean(true);
+        try (ExecutorService executor = Executors.newFixedThreadPool(9)) {
+            // Coordinates with a checksum are not indexed, so the lookup walks the children changed by the merges
+            Future<?> lookups = executor.submit(() -> {
+                while (merging.get()) {
+                    for (int i = 0; i < FILES; i++) {
+                        assertNull(application.findApplicationComponentByUniqueCoordinate("de.p" + (i % PACKAGES) + ".Class" + i + ".missing#x"));
+                    }
+                }
+            });
+            try {
+                for (Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+            } finally {
+                merging.set(false);
+            }
+            lookups.get();
+        }
+
+        for (int i = 0; i < FILES; i++) {
+            assertNotNull(application.findApplicationComponentByUniqueCoordinate("de.p" + (i % PACKAGES) + ".Class" + i + ".run"));
+        }
+    }
+
+    @Test
+    void mergeWithApplicationReduced() {
+        ApplicationBase sequential = new JavaApplication();
+        ApplicationBase reduced = new JavaApplication();
+        // Both applications already contain a component the files are merged into
+        sequential.mergeWithApplication(createFile(0));
+        reduced.mergeWithApplication(createFile(0));
+
+        List<Component> files = new ArrayList<>();
+        for (int i = 0; i < FILES; i++) {
+            sequential.mergeWithApplication(createOverloadingFile(i));
+            files.add(createOverloadingFile(i));
+        }
+        reduced.mergeWithApplication(files, 4);
+
+        assertTreeEquals(sequential.getComponents(), reduced.getComponents());
+        for (int i = 0; i < PACKAGES; i++) {
+            String coordinate = "de.p" + i + ".Util.run";
+            assertEquals(sequential.findApplicationComponentByUniqueCoordinate(coordinate).getChecksum(),
+                    reduced.findApplicationComponentByUniqueCoordinate(coordinate).getChecksum());
+        }
+    }
+
+    @Test
+    void librariesAreAddedThroughIndex() {
+        ApplicationBase application = new JavaApplication();
+        Component library = Component.builder().type(ComponentType.LIB_ROOT).value("jdk").build();
+        Component lang = Component.builder().type(ComponentType.JAVA_PACKAGE).value("lang").build();
+        lang.addChild(Component.builder().type(ComponentType.JAVA_CLASS).value("Object").build());
+        library.addChild(lang);
+
+        List<Component> libraries = application.getLibraries();
+        assertThrows(UnsupportedOperationException.class, () -> libraries.add(library));
+
+        application.addLibrary(library);
+        assertEquals(List.of(library), application.getLibraries());
+        assertNotNull(application.findLibraryComponentByUniqueCoordinate("lang.Object"));
+    }
+
+    /**
+     * Creates a file whose class collides with the classes of other files, so children, attributes and the
+     * coordinates of overloaded methods depend on the merge order.
+     */
+    private Component createOverloadingFile(int i) {
+        Component root = createFile(i);
+        Component pckg = root.getChildren().getFirst().getChildren().getFirst();
+        Component util = Component.builder().type(ComponentType.JAVA_CLASS).value("Util").build();
+        util.addAttribute(ComponentAttributeType.LINE, i % 5);
+        Component method = Component.builder().type(ComponentType.JAVA_METHOD).value("run").build();
+        method.setChecksum("c" + (i % 3));
+        util.addChild(method);
+        pckg.addChild(util);
+        return root;
+    }
+
+    private Component createFile(int i) {
+        Component root = Component.builder().type(ComponentType.ROOT).value(ComponentType.ROOT.name()).build();
+        Component de = Component.builder().type(ComponentType.JAVA_PACKAGE).value("de").build();
+        de.addAttribute(ComponentAttributeType.LINE, i % PACKAGES);
+        Component pckg = Component.builder().type(ComponentType.JAVA_PACKAGE).value("p" + (i % PACKAGES)).build();
+        Component clazz = Component.builder().type(ComponentType.JAVA_CLASS).value("Class" + i).build();
+        clazz.addChild(Component.builder().type(ComponentType.JAVA_METHOD).value("run").build());
+        root.addChild(de);
+        de.addChild(pckg);
+        pckg.addChild(clazz);
+        return root;
+    }
+}
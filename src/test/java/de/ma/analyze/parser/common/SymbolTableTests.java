@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolTableTests {
+
+    @Test
+    void internReturnsCanonicalInstance() {
+        SymbolTable symbolTable = new SymbolTable();
+        String first = new String("public".toCharArray());
+        String second = new String("public".toCharArray());
+
+        assertSame(first, symbolTable.intern(first));
+        assertSame(first, symbolTable.intern(second));
+        assertSame(first, symbolTable.intern("public"));
+        assertNotSame(first, symbolTable.intern(new String("static".toCharArray())));
+        assertNull(symbolTable.intern(null));
+    }
+
+    @Test
+    void statisticsCountHitsAndMisses() {
+        SymbolTable symbolTable = new SymbolTable();
+        assertEquals(0, symbolTable.getStatistics().getHitRate());
+
+        symbolTable.intern("public");
+        symbolTable.intern("static");
+        symbolTable.intern("public");
+        symbolTable.intern("public");
+        symbolTable.intern(null);
+
+        SymbolTableStatistics statistics = symbolTable.getStatistics();
+        assertEquals(2, statistics.getSymbols());
+        assertEquals(2, statistics.getHits());
+        assertEquals(2, statistics.getMisses());
+        assertEquals(0.5, statistics.getHitRate());
+
+        symbolTable.clear();
+        assertEquals(SymbolTableStatistics.builder().build(), symbolTable.getStatistics());
+        String value = new String("public".toCharArray());
+        assertSame(value, symbolTable.intern(value));
+        assertEquals(1, symbolTable.getStatistics().getMisses());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.common.listener;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.parser.java.JavaApplication;
+import de.ma.analyze.parser.java.JavaLexer;
+import de.ma.analyze.parser.java.JavaParser;
+import de.ma.analyze.parser.java.JavaParserBaseListener;
+import de.ma.analyze.parser.java.listener.JavaStructureListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.ma.analyze.common.component.ComponentTestSupport.assertTreeEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompositeListenerTests {
+
+    private static final String SOURCE = """
+            package de.ma;
+
+            public class Foo {
+                private int value;
+
+                public int getValue() {
+                    return value;
+                }
+
+                static class Bar {
+                }
+            }
+            """;
+
+    @Test
+    void walkOnce() {
+        CommonTokenStream tokenStream = new CommonTokenStream(new JavaLexer(CharStreams.fromString(SOURCE)));
+        ParseTree tree = new JavaParser(tokenStream).compilationUnit();
+        JavaStructureListener expected = createListener(tokenStream);
+        ParseTreeWalker.DEFAULT.walk(expected, tree);
+
+        JavaStructureListener structure = createListener(tokenStream);
+        List<String> events = new ArrayList<>();
+        JavaParserBaseListener classes = new JavaParserBaseListener() {
+            @Override
+            public void enterClassDeclaration(JavaParser.ClassDeclarationContext ctx) {
+                events.add("enter " + ctx.identifier().getText());
+            }
+
+            @Override
+            public void exitEveryRule(ParserRuleContext ctx) {
+                if (ctx instanceof JavaParser.ClassDeclarationContext classCtx) {
+                    events.add("exit " + classCtx.identifier().getText());
+                }
+            }
+        };
+        ParseTreeWalker.DEFAULT.walk(new CompositeListener(List.of(structure, classes), JavaParserBaseListener.class), tree);
+
+        assertTreeEquals(expected.getResult(), structure.getResult());
+        assertEquals(List.of("enter Foo", "enter Bar", "exit Bar", "exit Foo"), events);
+    }
+
+    @Test
+    void skipListenersNotOverridingMethod() {
+        ParseTree tree = new JavaParser(new CommonTokenStream(new JavaLexer(CharStreams.fromString(SOURCE)))).compilationUnit();
+        List<String> events = new ArrayList<>();
+        // The methods of the base listener record the calls, so calling a listener that does not override them is visible
+        class RecordingBaseListener extends JavaParserBaseListener {
+            @Override
+            public void enterClassDeclaration(JavaParser.ClassDeclarationContext ctx) {
+                events.add("base class");
+            }
+
+            @Override
+            public void enterMethodDeclaration(JavaParser.MethodDeclarationContext ctx) {
+                events.add("base method");
+            }
+        }
+        JavaParserBaseListener classes = new RecordingBaseListener() {
+            @Override
+            public void enterClassDeclaration(JavaParser.ClassDeclarationContext ctx) {
+                events.add("class " + ctx.identifier().getText());
+            }
+        };
+        JavaParserBaseListener methods = new RecordingBaseListener() {
+            @Override
+            public void enterMethodDeclaration(JavaParser.MethodDeclarationContext ctx) {
+                events.add("method " + ctx.identifier().getText());
+            }
+        };
+
+        ParseTreeWalker.DEFAULT.walk(new CompositeListener(List.of(classes, methods), RecordingBaseListener.class), tree);
+        assertEquals(List.of("class Foo", "method getValue", "class Bar"), events);
+
+        // Against the generated base listener both listeners override both methods
+        events.clear();
+        ParseTreeWalker.DEFAULT.walk(new CompositeListener(List.of(classes, methods), JavaParserBaseListener.class), tree);
+        assertEquals(List.of("class Foo", "base class", "base method", "method getValue", "class Bar", "base class"), events);
+    }
+
+    private JavaStructureListener createListener(TokenStream tokenStream) {
+        JavaStructureListener listener = new JavaStructureListener(DEFAULT.REVISION_ID, new JavaApplication());
+        listener.setSourceName("Foo.java");
+        listener.setTokenStream(tokenStream);
+        return listener;
+    }
+}
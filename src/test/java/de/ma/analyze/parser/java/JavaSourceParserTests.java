@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.java;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.parser.common.listener.ListenerBase;
+import de.ma.analyze.parser.java.listener.JavaStructureListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JavaSourceParserTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void countProcessedFilesIndependentOfParallelism() throws IOException {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            files.add(Files.writeString(tempDir.resolve("Foo" + i + ".java"), "package de; class Foo" + i + " { void bar() { } }").toFile());
+        }
+
+        for (int parallelism : new int[]{1, 3}) {
+            for (boolean streaming : new boolean[]{false, true}) {
+                JavaSourceParser parser = JavaSourceParser.builder()
+                        .revisionId(DEFAULT.REVISION_ID).parallelism(parallelism).streaming(streaming).build();
+                parser.parseFiles(files);
+
+                assertEquals(files.size(), parser.getProcessedFiles(), "parallelism " + parallelism + ", streaming " + streaming);
+            }
+        }
+    }
+
+    @Test
+    void rejectListenerOfAnotherApplication() {
+        JavaApplication application = new JavaApplication();
+        List<ListenerBase> foreign = List.of(new JavaStructureListener(DEFAULT.REVISION_ID, new JavaApplication()));
+
+        assertThrows(IllegalArgumentException.class, () -> JavaSourceParser.builder()
+                .application(application).revisionId(DEFAULT.REVISION_ID).listeners(foreign).build());
+        // Without an application the parser creates a new one, so no existing listener can belong to it
+        assertThrows(IllegalArgumentException.class, () -> JavaSourceParser.builder()
+                .revisionId(DEFAULT.REVISION_ID).listeners(foreign).build());
+
+        List<ListenerBase> own = List.of(new JavaStructureListener(DEFAULT.REVISION_ID, application));
+        assertDoesNotThrow(() -> JavaSourceParser.builder()
+                .application(application).revisionId(DEFAULT.REVISION_ID).listeners(own).build());
+    }
+}
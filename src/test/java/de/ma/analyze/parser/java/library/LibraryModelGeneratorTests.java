@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.java.library;
+
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.type.ComponentType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LibraryModelGeneratorTests {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void readClassFile() throws IOException {
+        try (InputStream inputStream = Object.class.getResourceAsStream("/java/util/Map$Entry.class")) {
+            ClassFile classFile = ClassFileReader.read(inputStream);
+
+            assertEquals("java/util/Map$Entry", classFile.getName());
+            assertEquals("java/util/Map", classFile.getOuterName());
+            assertEquals("Entry", classFile.getSimpleName());
+            assertNotEquals(0, classFile.getAccess() & ClassFileReader.ACC_INTERFACE);
+            assertTrue(classFile.getMethods().stream().anyMatch(method -> "getKey".equals(method.getName())));
+        }
+    }
+
+    @Test
+    void generateFromJar() throws IOException {
+        File archive = new File(directory, "collections.jar");
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(archive))) {
+            for (String name : List.of("java/util/Map.class", "java/util/Map$Entry.class")) {
+                outputStream.putNextEntry(new JarEntry(name));
+                try (InputStream inputStream = Object.class.getResourceAsStream("/" + name)) {
+                    inputStream.transferTo(outputStream);
+                }
+                outputStream.closeEntry();
+            }
+        }
+
+        LibraryModelGenerator generator = LibraryModelGenerator.builder().cacheDirectory(new File(directory, "cache")).build();
+        Component library = generator.generate(List.of(archive)).getFirst();
+
+        assertEquals(ComponentType.LIB_ROOT, library.getType());
+        Component map = library.findChildByCoordinate("java").findChildByCoordinate("util").findChildByCoordinate("Map");
+        assertEquals(ComponentType.JAVA_INTERFACE, map.getType());
+        assertNotNull(map.findChildByCoordinate("get"));
+        assertEquals(ComponentType.JAVA_INTERFACE, map.findChildByCoordinate("Entry").getType());
+        File[] models = new File(directory, "cache").listFiles();
+        assertEquals(1, models.length);
+
+        // The second run opens the cached model, it is not rewritten
+        assertTrue(models[0].setLastModified(1_000_000_000L));
+        assertEquals(library, generator.generate(archive));
+        assertArrayEquals(models, new File(directory, "cache").listFiles());
+        assertEquals(1_000_000_000L, models[0].lastModified());
+    }
+}
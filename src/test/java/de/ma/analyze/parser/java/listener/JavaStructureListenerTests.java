@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.parser.java.listener;
+
+import de.ma.analyze.common.AnalyzeConstants.DEFAULT;
+import de.ma.analyze.common.checksum.ChecksumAlgorithm;
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.ComponentAttribute;
+import de.ma.analyze.common.component.type.ComponentAttributeType;
+import de.ma.analyze.parser.java.JavaApplication;
+import de.ma.analyze.parser.java.JavaLexer;
+import de.ma.analyze.parser.java.JavaParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JavaStructureListenerTests {
+
+    private static final String SOURCE = """
+            package de.ma;
+
+            public class Foo {
+                public int foo() {
+                    return 1;
+                }
+
+                public int foo(int value) {
+                    return value;
+                }
+            }
+            """;
+
+    private static final String COMMENTED_SOURCE = """
+            package de.ma;
+
+            public class Foo {
+                /** Returns one. */
+                public int foo()   {
+                    // The answer
+                    return /* always */ 1;
+                }
+
+                public int foo(int value) {
+                    return value;
+                }
+            }
+            """;
+
+    @Test
+    void overloadsAreReachableByChecksum() {
+        JavaApplication application = analyze(SOURCE, ChecksumAlgorithm.MURMUR3_128);
+
+        Component clazz = application.findApplicationComponentByUniqueCoordinate("de.ma.Foo");
+        List<Component> overloads = clazz.findChildrenByValue("foo");
+        assertEquals(2, overloads.size());
+        assertNotEquals(overloads.getFirst().getChecksum(), overloads.getLast().getChecksum());
+        for (Component overload : overloads) {
+            assertEquals(32, overload.getChecksum().length());
+            assertSame(overload, application.findApplicationComponentByUniqueCoordinate("de.ma.Foo.foo#" + overload.getChecksum()));
+        }
+    }
+
+    @Test
+    void commentsDoNotChangeChecksum() {
+        List<Component> overloads = analyze(SOURCE, ChecksumAlgorithm.SHA_512)
+                .findApplicationComponentByUniqueCoordinate("de.ma.Foo").findChildrenByValue("foo");
+        List<Component> commented = analyze(COMMENTED_SOURCE, ChecksumAlgorithm.SHA_512)
+                .findApplicationComponentByUniqueCoordinate("de.ma.Foo").findChildrenByValue("foo");
+        List<Component> changed = analyze(SOURCE.replace("return 1;", "return 2;"), ChecksumAlgorithm.SHA_512)
+                .findApplicationComponentByUniqueCoordinate("de.ma.Foo").findChildrenByValue("foo");
+
+        assertEquals(overloads.getFirst().getChecksum(), commented.getFirst().getChecksum());
+        assertEquals(overloads.getLast().getChecksum(), commented.getLast().getChecksum());
+        assertNotEquals(overloads.getFirst().getChecksum(), changed.getFirst().getChecksum());
+        assertEquals(overloads.getLast().getChecksum(), changed.getLast().getChecksum());
+    }
+
+    @Test
+    void bodyChecksumDoesNotChangeTypeIdentity() {
+        JavaApplication application = analyze(SOURCE, ChecksumAlgorithm.SHA_512);
+        Component clazz = application.findApplicationComponentByUniqueCoordinate("de.ma.Foo");
+        assertNull(clazz.getChecksum());
+        List<ComponentAttribute> bodyChecksums = clazz.findAttributesByType(ComponentAttributeType.BODY_CHECKSUM);
+        assertEquals(1, bodyChecksums.size());
+
+        // Merging the changed class updates the existing one instead of adding a second class
+        analyze(application, SOURCE.replace("return 1;", "return 2;"));
+        assertEquals(1, application.findApplicationComponentByUniqueCoordinate("de.ma").findChildrenByValue("Foo").size());
+        List<ComponentAttribute> changedChecksums = clazz.findAttributesByType(ComponentAttributeType.BODY_CHECKSUM);
+        assertEquals(1, changedChecksums.size());
+        assertNotEquals(bodyChecksums, changedChecksums);
+    }
+
+    private JavaApplication analyze(String source, ChecksumAlgorithm algorithm) {
+        return analyze(new JavaApplication(algorithm), source);
+    }
+
+    private JavaApplication analyze(JavaApplication application, String source) {
+        CommonTokenStream tokenStream = new CommonTokenStream(new JavaLexer(CharStreams.fromString(source)));
+        JavaParser.CompilationUnitContext tree = new JavaParser(tokenStream).compilationUnit();
+
+        JavaStructureListener listener = new JavaStructureListener(DEFAULT.REVISION_ID, application);
+        listener.setSourceName("Foo.java");
+        listener.setTokenStream(tokenStream);
+        ParseTreeWalker.DEFAULT.walk(listener, tree);
+        application.mergeWithApplication(listener.getResult());
+
+        return application;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.persistence;
+
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.ComponentAttribute;
+import de.ma.analyze.common.component.type.ComponentAttributeType;
+import de.ma.analyze.common.component.type.ComponentType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static de.ma.analyze.common.component.ComponentTestSupport.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ComponentCopyLoaderTests {
+
+    private static final String SPECIAL_VALUE = "say \"hello\", world\nbye";
+
+    @Autowired
+    private ComponentCopyLoader copyLoader;
+
+    @Autowired
+    private ComponentRepository repository;
+
+    @Test
+    void copyFallsBackToBatchedInserts() {
+        Component root = createApplicationTree(ComponentRepository.BATCH_SIZE + 1);
+        Component clazz = root.findChildByCoordinate("de").findChildByCoordinate("Foo");
+        Component special = Component.builder().type(ComponentType.JAVA_FIELD).value(SPECIAL_VALUE).build();
+        special.addAttribute(ComponentAttribute.builder().type(ComponentAttributeType.JAVA_MODIFIER).value(SPECIAL_VALUE).build());
+        clazz.addChild(special);
+
+        long snapshotId = copyLoader.copy(root, "rev-1");
+        Component loaded = repository.load(snapshotId);
+
+        assertTreeEquals(root, loaded);
+        repository.delete(snapshotId);
+    }
+
+    @Test
+    void componentRowQuotesValues() {
+        Component component = Component.builder().type(ComponentType.JAVA_FIELD).value(SPECIAL_VALUE).build();
+        component.setChecksum("");
+
+        StringBuilder buffer = new StringBuilder();
+        ComponentCopyLoader.appendComponentRow(buffer, 1, component, 3, 2L);
+
+        assertEquals("1,3,2,JAVA_FIELD,\"say \"\"hello\"\", world\nbye\",\"\"\n", buffer.toString());
+    }
+
+    @Test
+    void componentRowWritesNullUnquoted() {
+        Component component = Component.builder().type(ComponentType.APP_ROOT).value(ComponentType.APP_ROOT.name()).build();
+
+        StringBuilder buffer = new StringBuilder();
+        ComponentCopyLoader.appendComponentRow(buffer, 1, component, 1, null);
+
+        assertEquals("1,1,,APP_ROOT,\"APP_ROOT\",\n", buffer.toString());
+    }
+
+    @Test
+    void attributeRowQuotesValues() {
+        ComponentAttribute attribute = ComponentAttribute.builder().type(ComponentAttributeType.JAVA_MODIFIER).value(SPECIAL_VALUE).build();
+
+        StringBuilder buffer = new StringBuilder();
+        ComponentCopyLoader.appendAttributeRow(buffer, 1, 3, 0, attribute);
+
+        assertEquals("1,3,0,JAVA_MODIFIER,\"say \"\"hello\"\", world\nbye\"\n", buffer.toString());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.persistence;
+
+import de.ma.analyze.common.component.Component;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static de.ma.analyze.common.component.ComponentTestSupport.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ComponentRepositoryTests {
+
+    @Autowired
+    private ComponentRepository repository;
+
+    @Test
+    void saveAndLoad() {
+        Component root = createApplicationTree(ComponentRepository.BATCH_SIZE + 1);
+
+        long snapshotId = repository.save(root, "rev-1");
+        Component loaded = repository.load(snapshotId);
+
+        assertTreeEquals(root, loaded);
+        Component loadedClass = loaded.findChildByCoordinate("de").findChildByCoordinate("Foo");
+        assertEquals(ComponentRepository.BATCH_SIZE + 2, loadedClass.getChildren().size());
+        assertNotNull(loadedClass.findChildByCoordinate("bar#" + METHOD_CHECKSUM));
+        assertEquals(METHOD_COORDINATE, loadedClass.getChildren().getFirst().getUniqueCoordinate());
+
+        repository.delete(snapshotId);
+        assertNull(repository.load(snapshotId));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.persistence;
+
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.type.ComponentType;
+import de.ma.analyze.parser.java.JavaApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static de.ma.analyze.common.component.ComponentTestSupport.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentSnapshotTests {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void writeAndRead() throws IOException {
+        Component root = createApplicationTree(200);
+        Component library = Component.builder().type(ComponentType.LIB_ROOT).value("java").build();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ComponentSnapshot.write(List.of(root, library), outputStream);
+        List<Component> roots = ComponentSnapshot.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertEquals(2, roots.size());
+        assertTreeEquals(root, roots.getFirst());
+        assertTreeEquals(library, roots.getLast());
+        assertEquals(METHOD_COORDINATE, roots.getFirst().findChildByCoordinate("de").findChildByCoordinate("Foo")
+                .getChildren().getFirst().getUniqueCoordinate());
+    }
+
+    @Test
+    void saveAndLoad() {
+        JavaApplication application = new JavaApplication();
+        application.mergeWithApplication(createApplicationTree(200));
+        Component library = Component.builder().type(ComponentType.LIB_ROOT).value("java").build();
+        library.addChild(Component.builder().type(ComponentType.JAVA_PACKAGE).value("lang").build());
+        application.addLibrary(library);
+
+        File file = new File(directory, "application.snapshot");
+        ComponentSnapshot.save(application, file);
+        JavaApplication loaded = new JavaApplication();
+        ComponentSnapshot.load(loaded, file);
+
+        assertTreeEquals(application.getComponents(), loaded.getComponents());
+        assertEquals(1, loaded.getLibraries().size());
+        assertTreeEquals(library, loaded.getLibraries().getFirst());
+        Component clazz = loaded.findApplicationComponentByUniqueCoordinate(CLASS_COORDINATE);
+        assertNotNull(clazz);
+        assertEquals(201, clazz.getChildren().size());
+        Component method = loaded.findApplicationComponentByUniqueCoordinate(METHOD_COORDINATE + "#" + METHOD_CHECKSUM);
+        assertSame(clazz.getChildren().getFirst(), method);
+        assertNotNull(loaded.findApplicationComponentByUniqueCoordinate(CLASS_COORDINATE + ".field199"));
+        assertNotNull(loaded.findLibraryComponentByUniqueCoordinate("lang"));
+    }
+
+    @Test
+    void readCorruptSnapshot() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ComponentSnapshot.write(List.of(createApplicationTree(3)), outputStream);
+        byte[] snapshot = outputStream.toByteArray();
+
+        for (int length = 0; length < snapshot.length; length++) {
+            byte[] truncated = Arrays.copyOf(snapshot, length);
+            assertThrows(IOException.class, () -> ComponentSnapshot.read(new ByteArrayInputStream(truncated)));
+        }
+        // Every damaged byte is either still a valid snapshot or reported as IOException
+        for (int i = 0; i < snapshot.length; i++) {
+            for (byte value : new byte[]{0x7F, (byte) 0xFF}) {
+                byte[] damaged = snapshot.clone();
+                damaged[i] = value;
+                try {
+                    ComponentSnapshot.read(new ByteArrayInputStream(damaged));
+                } catch (IOException expected) {
+                    // Corrupt snapshot
+                }
+            }
+        }
+
+        ByteArrayOutputStream corrupt = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(corrupt);
+        output.writeInt(ComponentSnapshot.MAGIC);
+        // Version, one string "a", one root of the first type with the value at string index 5
+        output.write(new byte[]{ComponentSnapshot.VERSION, 1, 1, 'a', 1, 0, 5});
+        IOException ex = assertThrows(IOException.class, () -> ComponentSnapshot.read(new ByteArrayInputStream(corrupt.toByteArray())));
+        assertTrue(ex.getMessage().startsWith("Corrupt snapshot"));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Martin Absmeier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ma.analyze.persistence;
+
+import de.ma.analyze.common.component.Component;
+import de.ma.analyze.common.component.type.ComponentType;
+import de.ma.analyze.parser.java.JavaApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LibraryModelTests {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void lazyLibraryIsResolvedByCoordinate() {
+        Component library = Component.builder().type(ComponentType.LIB_ROOT).value("jdk").build();
+        Component java = addChild(library, ComponentType.JAVA_PACKAGE, "java");
+        Component lang = addChild(java, ComponentType.JAVA_PACKAGE, "lang");
+        addChild(addChild(lang, ComponentType.JAVA_CLASS, "String"), ComponentType.JAVA_METHOD, "length").setChecksum("abc");
+        addChild(addChild(lang, ComponentType.JAVA_CLASS, "Integer"), ComponentType.JAVA_METHOD, "intValue");
+        addChild(addChild(java, ComponentType.JAVA_PACKAGE, "util"), ComponentType.JAVA_CLASS, "List");
+        addChild(addChild(library, ComponentType.JAVA_PACKAGE, "javax"), ComponentType.JAVA_PACKAGE, "swing");
+        File file = new File(directory, "jdk.model");
+        LibraryModel.write(library, file);
+
+        JavaApplication application = new JavaApplication();
+        Component loaded = LibraryModel.open(file);
+        application.addLibrary(loaded);
+        assertTrue(loaded.hasUnloadedChildren());
+
+        Component length = application.findLibraryComponentByUniqueCoordinate("java.lang.String.length#abc");
+        assertNotNull(length);
+        assertEquals("java.lang.String.length", length.getUniqueCoordinate());
+        assertSame(length, application.findLibraryComponentByUniqueCoordinate("java.lang.String.length#abc"));
+        assertNull(application.findLibraryComponentByUniqueCoordinate("java.lang.String.isEmpty"));
+
+        // Only the components along the coordinates are loaded
+        Component loadedJava = loaded.findChildByCoordinate("java");
+        Component loadedLang = loadedJava.findChildByCoordinate("lang");
+        assertTrue(loadedLang.findChildByCoordinate("Integer").hasUnloadedChildren());
+        assertTrue(loadedJava.findChildByCoordinate("util").hasUnloadedChildren());
+        assertTrue(loaded.findChildByCoordinate("javax").hasUnloadedChildren());
+    }
+
+    private Component addChild(Component parent, ComponentType type, String value) {
+        Component child = Component.builder().type(type).value(value).build();
+        parent.addChild(child);
+        return child;
+    }
+}